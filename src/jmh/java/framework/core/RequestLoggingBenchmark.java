@@ -0,0 +1,124 @@
+package framework.core;
+
+import com.aventstack.extentreports.ExtentReports;
+import framework.config.ConfigManager;
+import framework.reporting.ExtentReportManager;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.http.Headers;
+import io.restassured.http.Method;
+import io.restassured.response.Response;
+import io.restassured.specification.QueryableRequestSpecification;
+import io.restassured.specification.RequestSpecification;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request overhead of ApiClient.execute around the HTTP call itself
+ * The request specification is a stub returning a prebuilt response, so the score is the cost of
+ * latency recording plus request/response logging, with Extent logging on or off
+ * Run with: mvn -P benchmark test-compile exec:exec
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class RequestLoggingBenchmark {
+
+    @Param({"false", "true"})
+    private boolean reportLogging;
+
+    @Param({"1024", "65536"})
+    private int bodySize;
+
+    private ApiClient apiClient;
+    private RequestSpecification spec;
+    private String requestBody;
+
+    @Setup
+    public void setUp() {
+        // Keep console logging out of the measurement; only the Extent path is toggled
+        ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger("framework")).setLevel(ch.qos.logback.classic.Level.WARN);
+        ConfigManager.getInstance().setProperty("logging.request.response.in.extent", String.valueOf(reportLogging));
+
+        requestBody = buildJsonBody(bodySize);
+        Response response = new ResponseBuilder()
+                .setStatusCode(200)
+                .setStatusLine("HTTP/1.1 200 OK")
+                .setContentType("application/json")
+                .setBody(buildJsonBody(bodySize))
+                .build();
+        spec = stubSpec(response);
+        apiClient = new ApiClient();
+    }
+
+    @Setup(Level.Iteration)
+    public void bindTest() {
+        // A fresh test per iteration so log entries do not pile up across the run
+        if (reportLogging) {
+            ExtentReportManager.setCurrentTest(new ExtentReports().createTest("benchmark"));
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void unbindTest() {
+        ExtentReportManager.setCurrentTest(null);
+    }
+
+    @Benchmark
+    public Response execute() {
+        return apiClient.execute(Method.POST, "/users", spec, requestBody);
+    }
+
+    /**
+     * Request specification whose request(...) returns the given response, with no headers; fluent
+     * calls return itself
+     */
+    private static RequestSpecification stubSpec(Response response) {
+        return (RequestSpecification) Proxy.newProxyInstance(
+                RequestSpecification.class.getClassLoader(),
+                new Class<?>[]{RequestSpecification.class, QueryableRequestSpecification.class},
+                (proxy, method, args) -> {
+                    if ("request".equals(method.getName())) {
+                        return response;
+                    }
+                    if ("getHeaders".equals(method.getName())) {
+                        return new Headers();
+                    }
+                    if (method.getDeclaringClass() == Object.class) {
+                        return "hashCode".equals(method.getName()) ? System.identityHashCode(proxy)
+                                : "equals".equals(method.getName()) ? proxy == args[0] : "RequestSpecification stub";
+                    }
+                    return method.getReturnType().isInstance(proxy) ? proxy : null;
+                });
+    }
+
+    private static String buildJsonBody(int size) {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; json.length() < size; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"id\":").append(i)
+                    .append(",\"name\":\"User ").append(i)
+                    .append("\",\"email\":\"user").append(i).append("@example.com\",\"active\":true}");
+        }
+        return json.append(']').toString();
+    }
+}
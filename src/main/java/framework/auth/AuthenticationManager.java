@@ -5,6 +5,9 @@ import io.restassured.specification.RequestSpecification;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Collections;
+import java.util.Map;
+
 /**
  * Manages authentication for API requests
  * Supports both Bearer Token and Basic Authentication
@@ -65,7 +68,7 @@ public class AuthenticationManager {
     public void authenticateBearer(String username, String password) {
         String token = bearerTokenAuth.obtainToken(username, password);
         if (token != null && !token.isEmpty()) {
-            bearerTokenAuth.setToken(token);
+            // obtainToken already stored the token along with its expiry
             currentAuthType = AuthType.BEARER;
             isAuthenticated = true;
             logger.info("Bearer token authentication configured");
@@ -103,6 +106,30 @@ public class AuthenticationManager {
         }
     }
 
+    /**
+     * Get authentication headers for clients that do not use RequestSpecification
+     */
+    public Map<String, String> getAuthenticationHeaders() {
+        if (!isAuthenticated) {
+            return Collections.emptyMap();
+        }
+
+        String headerValue;
+        switch (currentAuthType) {
+            case BASIC:
+                headerValue = basicAuth.getAuthorizationHeaderValue();
+                break;
+            case BEARER:
+                headerValue = bearerTokenAuth.getAuthorizationHeaderValue();
+                break;
+            default:
+                headerValue = null;
+        }
+        return headerValue != null
+                ? Collections.singletonMap("Authorization", headerValue)
+                : Collections.emptyMap();
+    }
+
     /**
      * Check if currently authenticated
      */
@@ -134,9 +161,7 @@ public class AuthenticationManager {
     public boolean refreshTokenIfNeeded() {
         if (currentAuthType == AuthType.BEARER && bearerTokenAuth.isTokenExpired()) {
             logger.info("Token expired, attempting to refresh...");
-            // This would typically use refresh token logic
-            // For now, return false to indicate refresh needed
-            return false;
+            return bearerTokenAuth.refreshToken();
         }
         return true;
     }
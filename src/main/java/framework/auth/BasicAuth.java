@@ -4,6 +4,9 @@ import io.restassured.specification.RequestSpecification;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
 /**
  * Handles Basic Authentication
  */
@@ -23,15 +26,28 @@ public class BasicAuth {
 
     /**
      * Add basic authentication to request
+     * Sent preemptively as a header: challenge-based basic auth would store the credentials on the
+     * shared pooled HttpClient, where they would answer 401s for every other scenario
      */
     public RequestSpecification addToRequest(RequestSpecification requestSpec) {
         if (username != null && password != null) {
-            return requestSpec.auth().basic(username, password);
+            return requestSpec.auth().preemptive().basic(username, password);
         }
         logger.warn("Basic auth credentials not set");
         return requestSpec;
     }
 
+    /**
+     * Get the Authorization header value for clients that do not use RequestSpecification
+     */
+    public String getAuthorizationHeaderValue() {
+        if (username == null || password == null) {
+            return null;
+        }
+        String credentials = username + ":" + password;
+        return "Basic " + Base64.getEncoder().encodeToString(credentials.getBytes(StandardCharsets.UTF_8));
+    }
+
     /**
      * Clear stored credentials
      */
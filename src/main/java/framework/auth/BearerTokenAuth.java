@@ -1,5 +1,7 @@
 package framework.auth;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import framework.config.ConfigManager;
 import io.restassured.RestAssured;
 import io.restassured.response.Response;
@@ -7,8 +9,12 @@ import io.restassured.specification.RequestSpecification;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.temporal.ChronoUnit;
+import java.util.Base64;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -17,9 +23,11 @@ import java.util.Map;
  */
 public class BearerTokenAuth {
     private static final Logger logger = LoggerFactory.getLogger(BearerTokenAuth.class);
+    private static final ObjectMapper objectMapper = new ObjectMapper();
     private final ConfigManager configManager;
     private String token;
     private LocalDateTime tokenExpiry;
+    private TokenCache.TokenKey cacheKey;
     private static final int DEFAULT_TOKEN_VALIDITY_MINUTES = 60;
 
     public BearerTokenAuth() {
@@ -28,40 +36,79 @@ public class BearerTokenAuth {
 
     /**
      * Obtain bearer token using username and password
+     * Tokens are shared process-wide through TokenCache, so parallel scenarios logging in with the
+     * same credentials trigger a single token request. The obtained token is also stored on this instance,
+     * and is kept fresh in the background until cleared
      */
     public String obtainToken(String username, String password) {
+        String scopes = configManager.getProperty("auth.token.scopes", "");
+        TokenCache.TokenKey key = new TokenCache.TokenKey(
+                configManager.getCurrentEnvironment().getName(), username, password, scopes);
+
+        TokenCache.CachedToken cachedToken = TokenCache.getInstance().getToken(key, new TokenCache.TokenProvider() {
+            @Override
+            public TokenCache.CachedToken fetch() {
+                return requestToken(username, password, scopes);
+            }
+
+            @Override
+            public TokenCache.CachedToken refresh(TokenCache.CachedToken current) {
+                return renewToken(current, username, password, scopes);
+            }
+        });
+        if (cachedToken == null) {
+            return null;
+        }
+        this.cacheKey = key;
+        applyToken(cachedToken);
+        return token;
+    }
+
+    /**
+     * Store a token and its expiry on this instance
+     */
+    private void applyToken(TokenCache.CachedToken cachedToken) {
+        this.token = cachedToken.getToken();
+        this.tokenExpiry = LocalDateTime.ofInstant(cachedToken.getExpiresAt(), ZoneId.systemDefault());
+    }
+
+    /**
+     * Pick up a token refreshed in the background since it was last read; never blocks
+     */
+    private void syncWithCache() {
+        if (cacheKey == null) {
+            return;
+        }
+        TokenCache.CachedToken latest = TokenCache.getInstance().peek(cacheKey);
+        if (latest != null && !latest.getToken().equals(token)) {
+            applyToken(latest);
+        }
+    }
+
+    /**
+     * Request a new token from the token endpoint
+     */
+    private TokenCache.CachedToken requestToken(String username, String password, String scopes) {
         try {
             String tokenEndpoint = configManager.getAuthTokenEndpoint();
             
             Map<String, String> credentials = new HashMap<>();
             credentials.put("username", username);
             credentials.put("password", password);
+            if (!scopes.isEmpty()) {
+                credentials.put("scope", scopes);
+            }
 
             Response response = RestAssured.given()
                     .contentType("application/json")
                     .body(credentials)
                     .post(tokenEndpoint);
 
-            if (response.getStatusCode() == 200) {
-                // Extract token from response - adjust based on your API response format
-                String responseBody = response.getBody().asString();
-                
-                // Common token response formats:
-                // {"token": "abc123", "expires_in": 3600}
-                // {"access_token": "abc123", "token_type": "Bearer"}
-                
-                String extractedToken = extractTokenFromResponse(responseBody);
-                if (extractedToken != null) {
-                    setTokenExpiry();
-                    logger.info("Bearer token obtained successfully");
-                    return extractedToken;
-                } else {
-                    logger.error("Failed to extract token from response: {}", responseBody);
-                }
-            } else {
-                logger.error("Failed to obtain token. Status: {}, Response: {}", 
-                           response.getStatusCode(), response.getBody().asString());
+            TokenCache.CachedToken obtained = parseTokenResponse(response);
+            if (obtained != null) {
+                logger.info("Bearer token obtained successfully, expires at {}", obtained.getExpiresAt());
             }
+            return obtained;
         } catch (Exception e) {
             logger.error("Error obtaining bearer token", e);
         }
@@ -69,28 +116,101 @@ public class BearerTokenAuth {
     }
 
     /**
-     * Extract token from API response
-     * This method should be customized based on your API's response format
+     * Renew a token, using its refresh token when the server issued one and
+     * falling back to logging in again with the original credentials
      */
-    private String extractTokenFromResponse(String responseBody) {
-        try {
-            // Simple JSON parsing - you might want to use Jackson for complex scenarios
-            if (responseBody.contains("\"token\"")) {
-                // Format: {"token": "abc123"}
-                return responseBody.split("\"token\":\\s*\"")[1].split("\"")[0];
-            } else if (responseBody.contains("\"access_token\"")) {
-                // Format: {"access_token": "abc123"}
-                return responseBody.split("\"access_token\":\\s*\"")[1].split("\"")[0];
+    private TokenCache.CachedToken renewToken(TokenCache.CachedToken current, String username,
+                                              String password, String scopes) {
+        if (current.getRefreshToken() != null) {
+            try {
+                Map<String, String> body = new HashMap<>();
+                body.put("grant_type", "refresh_token");
+                body.put("refresh_token", current.getRefreshToken());
+
+                Response response = RestAssured.given()
+                        .contentType("application/json")
+                        .body(body)
+                        .post(configManager.getProperty("auth.token.refresh.endpoint", "/api/auth/refresh"));
+
+                TokenCache.CachedToken refreshed = parseTokenResponse(response);
+                if (refreshed != null) {
+                    // Servers that do not rotate refresh tokens omit it from the refresh response
+                    if (refreshed.getRefreshToken() == null) {
+                        refreshed = new TokenCache.CachedToken(refreshed.getToken(), refreshed.getExpiresAt(),
+                                current.getRefreshToken());
+                    }
+                    return refreshed;
+                }
+            } catch (Exception e) {
+                logger.warn("Error refreshing bearer token with refresh token", e);
             }
-            
-            // If response is just the token as plain text
-            if (!responseBody.contains("{") && !responseBody.contains("}")) {
-                return responseBody.trim();
+            logger.info("Refresh token rejected, re-authenticating user: {}", username);
+        }
+        return requestToken(username, password, scopes);
+    }
+
+    /**
+     * Parse a token response into a cached token
+     * Common formats: {"token": "abc123", "expires_in": 3600},
+     * {"access_token": "abc123", "token_type": "Bearer", "refresh_token": "def456"} or the bare token
+     * Expiry comes from expires_in, then the JWT exp claim, then the default validity
+     */
+    private TokenCache.CachedToken parseTokenResponse(Response response) {
+        String responseBody = response.getBody().asString();
+        if (response.getStatusCode() != 200) {
+            logger.error("Failed to obtain token. Status: {}, Response: {}", response.getStatusCode(), responseBody);
+            return null;
+        }
+
+        String extractedToken = null;
+        String refreshToken = null;
+        Instant expiresAt = null;
+        String trimmed = responseBody.trim();
+        if (trimmed.startsWith("{")) {
+            try {
+                JsonNode json = objectMapper.readTree(trimmed);
+                extractedToken = json.hasNonNull("token") ? json.get("token").asText()
+                        : json.hasNonNull("access_token") ? json.get("access_token").asText() : null;
+                refreshToken = json.hasNonNull("refresh_token") ? json.get("refresh_token").asText() : null;
+                if (json.hasNonNull("expires_in") && json.get("expires_in").asLong() > 0) {
+                    expiresAt = Instant.now().plusSeconds(json.get("expires_in").asLong());
+                }
+            } catch (Exception e) {
+                logger.error("Error parsing token from response", e);
             }
+        } else if (!trimmed.isEmpty()) {
+            extractedToken = trimmed;
+        }
+
+        if (extractedToken == null || extractedToken.isEmpty()) {
+            logger.error("Failed to extract token from response: {}", responseBody);
+            return null;
+        }
+        if (expiresAt == null) {
+            expiresAt = extractJwtExpiry(extractedToken);
+        }
+        if (expiresAt == null) {
+            expiresAt = Instant.now().plus(DEFAULT_TOKEN_VALIDITY_MINUTES, ChronoUnit.MINUTES);
+        }
+        return new TokenCache.CachedToken(extractedToken, expiresAt, refreshToken);
+    }
+
+    /**
+     * Read the exp claim when the token is a JWT, or null if it is not
+     */
+    private Instant extractJwtExpiry(String jwt) {
+        String[] parts = jwt.split("\\.");
+        if (parts.length != 3) {
+            return null;
+        }
+        try {
+            byte[] payload = Base64.getUrlDecoder().decode(parts[1]);
+            JsonNode claims = objectMapper.readTree(new String(payload, StandardCharsets.UTF_8));
+            return claims.hasNonNull("exp") ? Instant.ofEpochSecond(claims.get("exp").asLong()) : null;
         } catch (Exception e) {
-            logger.error("Error parsing token from response", e);
+            logger.debug("Token is not a decodable JWT, using default validity");
+            return null;
         }
-        return null;
     }
 
     /**
@@ -98,21 +218,26 @@ public class BearerTokenAuth {
      */
     public void setToken(String token) {
         this.token = token;
+        this.cacheKey = null;
         setTokenExpiry();
         logger.debug("Bearer token set manually");
     }
 
     /**
-     * Set token expiry time
+     * Set token expiry time from the JWT exp claim, or the default validity for opaque tokens
      */
     private void setTokenExpiry() {
-        this.tokenExpiry = LocalDateTime.now().plus(DEFAULT_TOKEN_VALIDITY_MINUTES, ChronoUnit.MINUTES);
+        Instant expiresAt = extractJwtExpiry(token);
+        this.tokenExpiry = expiresAt != null
+                ? LocalDateTime.ofInstant(expiresAt, ZoneId.systemDefault())
+                : LocalDateTime.now().plus(DEFAULT_TOKEN_VALIDITY_MINUTES, ChronoUnit.MINUTES);
     }
 
     /**
      * Add bearer token to request
      */
     public RequestSpecification addToRequest(RequestSpecification requestSpec) {
+        syncWithCache();
         if (token != null && !token.isEmpty()) {
             return requestSpec.header("Authorization", "Bearer " + token);
         }
@@ -120,10 +245,22 @@ public class BearerTokenAuth {
         return requestSpec;
     }
 
+    /**
+     * Get the Authorization header value for clients that do not use RequestSpecification
+     */
+    public String getAuthorizationHeaderValue() {
+        syncWithCache();
+        if (token != null && !token.isEmpty()) {
+            return "Bearer " + token;
+        }
+        return null;
+    }
+
     /**
      * Check if token is expired
      */
     public boolean isTokenExpired() {
+        syncWithCache();
         if (tokenExpiry == null) {
             return true;
         }
@@ -134,15 +271,22 @@ public class BearerTokenAuth {
      * Get current token
      */
     public String getToken() {
+        syncWithCache();
         return token;
     }
 
     /**
      * Clear token
+     * The shared token stays cached for other users of the same credentials, but its background refresh
+     * is cancelled until someone reads it again
      */
     public void clearToken() {
+        if (cacheKey != null) {
+            TokenCache.getInstance().cancelRefresh(cacheKey);
+        }
         this.token = null;
         this.tokenExpiry = null;
+        this.cacheKey = null;
         logger.debug("Bearer token cleared");
     }
 
@@ -157,16 +301,29 @@ public class BearerTokenAuth {
      * Get token expiry time
      */
     public LocalDateTime getTokenExpiry() {
+        syncWithCache();
         return tokenExpiry;
     }
 
     /**
-     * Refresh token using existing credentials
-     * This is a placeholder - implement based on your API's refresh mechanism
+     * Refresh the token now, using the refresh token or the original credentials
+     * Tokens are normally refreshed in the background; this is for callers that need it immediately
      */
     public boolean refreshToken() {
-        // This would typically use a refresh token or re-authenticate
-        logger.warn("Token refresh not implemented - please re-authenticate");
-        return false;
+        if (cacheKey == null) {
+            logger.warn("Token was not obtained through login, cannot refresh - please re-authenticate");
+            return false;
+        }
+        TokenCache.CachedToken refreshed = TokenCache.getInstance().refreshNow(cacheKey);
+        if (refreshed == null) {
+            logger.error("Bearer token refresh failed for user: {}", cacheKey.getUsername());
+            if (isTokenExpired()) {
+                // Nobody can use an expired token that failed to refresh, so the next login fetches a new one
+                TokenCache.getInstance().invalidate(cacheKey);
+            }
+            return false;
+        }
+        applyToken(refreshed);
+        return true;
     }
 }
\ No newline at end of file
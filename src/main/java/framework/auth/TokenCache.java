@@ -0,0 +1,459 @@
+package framework.auth;
+
+import framework.config.ConfigManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Process-wide bearer token cache shared by all BearerTokenAuth instances
+ * Concurrent callers for the same (environment, credentials, scopes) wait on a single in-flight
+ * token request instead of each logging in, and cached tokens are reused until near expiry
+ * Tokens are renewed on a background scheduler ahead of expiry, so requests never wait on a refresh;
+ * a key nobody has read since its last refresh is not refreshed again until it is next read
+ */
+public class TokenCache {
+    private static final Logger logger = LoggerFactory.getLogger(TokenCache.class);
+    private static final TokenCache INSTANCE = new TokenCache();
+    private static final long MIN_RETRY_DELAY_MS = 1000;
+    private static final long MAX_RETRY_DELAY_MS = 30000;
+    private static final long REFRESH_MARGIN_MS = 1000;
+
+    private final ConcurrentMap<TokenKey, CompletableFuture<CachedToken>> tokens = new ConcurrentHashMap<>();
+    private final ConcurrentMap<TokenKey, Refresh> refreshes = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService refresher;
+
+    private TokenCache() {
+        this.refresher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "token-refresher");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Get the shared token cache
+     */
+    public static TokenCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Get a valid token for the key, fetching it at most once across concurrent callers
+     * Returns null if the fetch fails; waiters on a failed fetch also get null rather than retrying
+     * Successful tokens are scheduled for background refresh through the provider
+     */
+    public CachedToken getToken(TokenKey key, TokenProvider provider) {
+        long expirySkewMs = ConfigManager.getInstance().getSnapshot().getLong("auth.token.expiry.skew", 60000);
+
+        while (true) {
+            CompletableFuture<CachedToken> existing = tokens.get(key);
+            if (existing != null) {
+                if (!existing.isDone()) {
+                    logger.debug("Waiting for in-flight token request for user: {}", key.getUsername());
+                    return existing.join();
+                }
+                CachedToken cached = existing.getNow(null);
+                if (cached != null && !cached.expiresWithin(staleSkewMs(cached.getLifetimeMs(), expirySkewMs))) {
+                    logger.debug("Reusing cached bearer token for user: {}", key.getUsername());
+                    markRead(key, cached);
+                    return cached;
+                }
+                // Expired, near expiry or failed - let exactly one caller replace it
+                tokens.remove(key, existing);
+                continue;
+            }
+
+            CompletableFuture<CachedToken> inFlight = new CompletableFuture<>();
+            if (tokens.putIfAbsent(key, inFlight) != null) {
+                continue;
+            }
+
+            CachedToken fetched = null;
+            try {
+                fetched = provider.fetch();
+                if (fetched != null) {
+                    cancel(refreshes.put(key, new Refresh(provider)));
+                    scheduleRefresh(key, fetched);
+                }
+                return fetched;
+            } finally {
+                if (fetched == null) {
+                    tokens.remove(key, inFlight);
+                }
+                inFlight.complete(fetched);
+            }
+        }
+    }
+
+    /**
+     * Get the latest completed token for the key without blocking or fetching
+     * Returns null if there is no usable token
+     */
+    public CachedToken peek(TokenKey key) {
+        CompletableFuture<CachedToken> existing = tokens.get(key);
+        if (existing == null) {
+            return null;
+        }
+        CachedToken cached = existing.getNow(null);
+        if (cached == null || cached.expiresWithin(0)) {
+            return null;
+        }
+        markRead(key, cached);
+        return cached;
+    }
+
+    /**
+     * Refresh the token for the key immediately, on the calling thread
+     * Returns the refreshed token, or null if there is nothing to refresh or the refresh failed
+     */
+    public CachedToken refreshNow(TokenKey key) {
+        CompletableFuture<CachedToken> existing = tokens.get(key);
+        CachedToken current = existing != null ? existing.getNow(null) : null;
+        if (current == null) {
+            return null;
+        }
+        return refresh(key, existing, current);
+    }
+
+    /**
+     * Schedule a background refresh ahead of the token's expiry, replacing any refresh already scheduled
+     */
+    private void scheduleRefresh(TokenKey key, CachedToken token) {
+        Refresh refresh = refreshes.get(key);
+        if (refresh == null
+                || !ConfigManager.getInstance().getSnapshot().getBoolean("auth.token.background.refresh", true)) {
+            return;
+        }
+        long remainingMs = Duration.between(Instant.now(), token.getExpiresAt()).toMillis();
+        if (remainingMs <= 0) {
+            return;
+        }
+        long delayMs = refreshDelayMs(token.getLifetimeMs(), remainingMs,
+                ConfigManager.getInstance().getSnapshot().getLong("auth.token.refresh.ahead", 120000),
+                ConfigManager.getInstance().getSnapshot().getLong("auth.token.expiry.skew", 60000));
+        refresh.schedule(refresher.schedule(() -> refreshInBackground(key, token), delayMs, TimeUnit.MILLISECONDS));
+        logger.debug("Bearer token for user {} scheduled for refresh in {}ms", key.getUsername(), delayMs);
+    }
+
+    /**
+     * Delay before refreshing a token in the background
+     * Aims for auth.token.refresh.ahead ms before expiry, but never earlier than three quarters of the
+     * remaining lifetime, and always before getToken starts treating the token as stale
+     */
+    static long refreshDelayMs(long lifetimeMs, long remainingMs, long refreshAheadMs, long expirySkewMs) {
+        long preferredMs = Math.max(remainingMs - refreshAheadMs, remainingMs * 3 / 4);
+        long latestMs = remainingMs - staleSkewMs(lifetimeMs, expirySkewMs) - Math.min(REFRESH_MARGIN_MS, lifetimeMs / 10);
+        return Math.max(0, Math.min(preferredMs, latestMs));
+    }
+
+    /**
+     * How long before expiry a cached token stops being served: auth.token.expiry.skew, capped at a quarter
+     * of the token's lifetime so short-lived tokens are still reused rather than fetched on every call
+     */
+    static long staleSkewMs(long lifetimeMs, long expirySkewMs) {
+        return Math.max(0, Math.min(expirySkewMs, lifetimeMs / 4));
+    }
+
+    /**
+     * Note that a key's token was read, re-arming its background refresh if it had been parked
+     */
+    private void markRead(TokenKey key, CachedToken token) {
+        Refresh refresh = refreshes.get(key);
+        if (refresh != null && refresh.markRead()) {
+            scheduleRefresh(key, token);
+        }
+    }
+
+    /**
+     * Background refresh task; skipped if the token was replaced or invalidated in the meantime, and parked
+     * if nobody has read the token since the last refresh
+     */
+    private void refreshInBackground(TokenKey key, CachedToken expected) {
+        CompletableFuture<CachedToken> existing = tokens.get(key);
+        Refresh state = refreshes.get(key);
+        if (existing == null || state == null || existing.getNow(null) != expected) {
+            return;
+        }
+        if (!state.takeRead()) {
+            logger.debug("Bearer token for user {} not used since last refresh, background refresh parked",
+                    key.getUsername());
+            return;
+        }
+        if (refresh(key, existing, expected) == null) {
+            // Keep serving the current token while it is valid and retry with a shorter delay
+            long remainingMs = Duration.between(Instant.now(), expected.getExpiresAt()).toMillis();
+            if (remainingMs > MIN_RETRY_DELAY_MS) {
+                long retryMs = Math.max(MIN_RETRY_DELAY_MS, Math.min(MAX_RETRY_DELAY_MS, remainingMs / 2));
+                logger.warn("Background token refresh failed for user {}, retrying in {}ms", key.getUsername(), retryMs);
+                state.markRead();
+                state.schedule(refresher.schedule(() -> refreshInBackground(key, expected), retryMs, TimeUnit.MILLISECONDS));
+            } else {
+                state.park();
+            }
+        }
+    }
+
+    /**
+     * Refresh a token and atomically swap it into the cache
+     */
+    private CachedToken refresh(TokenKey key, CompletableFuture<CachedToken> existing, CachedToken current) {
+        Refresh state = refreshes.get(key);
+        if (state == null) {
+            return null;
+        }
+        CachedToken refreshed;
+        try {
+            refreshed = state.provider.refresh(current);
+        } catch (Exception e) {
+            logger.error("Error refreshing bearer token for user: {}", key.getUsername(), e);
+            return null;
+        }
+        if (refreshed == null) {
+            return null;
+        }
+        if (tokens.replace(key, existing, CompletableFuture.completedFuture(refreshed))) {
+            logger.info("Bearer token refreshed for user: {}", key.getUsername());
+            scheduleRefresh(key, refreshed);
+        }
+        return refreshed;
+    }
+
+    /**
+     * Remove a cached token (e.g. after the server rejected it) and cancel its background refresh
+     */
+    public void invalidate(TokenKey key) {
+        tokens.remove(key);
+        cancel(refreshes.remove(key));
+        logger.debug("Cached bearer token invalidated for user: {}", key.getUsername());
+    }
+
+    /**
+     * Cancel the background refresh for a key but keep its token; the next read re-arms the refresh
+     */
+    public void cancelRefresh(TokenKey key) {
+        Refresh refresh = refreshes.get(key);
+        if (refresh != null) {
+            refresh.park();
+            logger.debug("Background refresh cancelled for user: {}", key.getUsername());
+        }
+    }
+
+    /**
+     * Check if a background refresh is scheduled for the key
+     */
+    public boolean isRefreshScheduled(TokenKey key) {
+        Refresh refresh = refreshes.get(key);
+        return refresh != null && refresh.isScheduled();
+    }
+
+    /**
+     * Remove all cached tokens
+     */
+    public void clear() {
+        tokens.clear();
+        refreshes.values().forEach(TokenCache::cancel);
+        refreshes.clear();
+        logger.info("Bearer token cache cleared");
+    }
+
+    private static void cancel(Refresh refresh) {
+        if (refresh != null) {
+            refresh.park();
+        }
+    }
+
+    /**
+     * Background refresh state for one key
+     */
+    private static final class Refresh {
+        private final TokenProvider provider;
+        // Guarded by this
+        private boolean readSinceRefresh;
+        private ScheduledFuture<?> scheduled;
+
+        Refresh(TokenProvider provider) {
+            this.provider = provider;
+        }
+
+        synchronized void schedule(ScheduledFuture<?> next) {
+            if (scheduled != null) {
+                scheduled.cancel(false);
+            }
+            scheduled = next;
+        }
+
+        /**
+         * Cancel the scheduled refresh, if any
+         */
+        synchronized void park() {
+            schedule(null);
+        }
+
+        synchronized boolean isScheduled() {
+            return scheduled != null && !scheduled.isDone();
+        }
+
+        /**
+         * Record a read; returns true if the refresh was parked and needs re-arming
+         */
+        synchronized boolean markRead() {
+            readSinceRefresh = true;
+            return scheduled == null;
+        }
+
+        /**
+         * Consume the read flag at refresh time; returns false (and parks) if nobody read the token
+         */
+        synchronized boolean takeRead() {
+            boolean read = readSinceRefresh;
+            readSinceRefresh = false;
+            if (!read) {
+                scheduled = null;
+            }
+            return read;
+        }
+    }
+
+    /**
+     * Source of tokens for one cache key
+     */
+    public interface TokenProvider {
+        /**
+         * Obtain a new token, returning null on failure
+         */
+        CachedToken fetch();
+
+        /**
+         * Renew the given token, returning null on failure
+         */
+        CachedToken refresh(CachedToken current);
+    }
+
+    /**
+     * Cache key identifying who a token was issued to
+     * Includes a SHA-256 fingerprint of the credentials, so a login with the same username but a different
+     * password never reuses a cached token; the password itself is not kept
+     */
+    public static final class TokenKey {
+        private final String environment;
+        private final String username;
+        private final String credentialFingerprint;
+        private final String scopes;
+
+        public TokenKey(String environment, String username, String password, String scopes) {
+            this.environment = environment;
+            this.username = username;
+            this.credentialFingerprint = fingerprint(username, password);
+            this.scopes = scopes != null ? scopes : "";
+        }
+
+        private static String fingerprint(String username, String password) {
+            try {
+                MessageDigest digest = MessageDigest.getInstance("SHA-256");
+                digest.update(String.valueOf(username).getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+                byte[] hash = digest.digest(String.valueOf(password).getBytes(StandardCharsets.UTF_8));
+                StringBuilder hex = new StringBuilder(hash.length * 2);
+                for (byte b : hash) {
+                    hex.append(String.format("%02x", b));
+                }
+                return hex.toString();
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 not available", e);
+            }
+        }
+
+        public String getEnvironment() {
+            return environment;
+        }
+
+        public String getUsername() {
+            return username;
+        }
+
+        public String getScopes() {
+            return scopes;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof TokenKey)) {
+                return false;
+            }
+            TokenKey other = (TokenKey) o;
+            return Objects.equals(environment, other.environment)
+                    && Objects.equals(username, other.username)
+                    && credentialFingerprint.equals(other.credentialFingerprint)
+                    && scopes.equals(other.scopes);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(environment, username, credentialFingerprint, scopes);
+        }
+    }
+
+    /**
+     * A token together with its expiry time and optional refresh token
+     */
+    public static final class CachedToken {
+        private final String token;
+        private final Instant issuedAt;
+        private final Instant expiresAt;
+        private final String refreshToken;
+
+        public CachedToken(String token, Instant expiresAt) {
+            this(token, expiresAt, null);
+        }
+
+        public CachedToken(String token, Instant expiresAt, String refreshToken) {
+            this.token = token;
+            this.issuedAt = Instant.now();
+            this.expiresAt = expiresAt;
+            this.refreshToken = refreshToken;
+        }
+
+        public String getToken() {
+            return token;
+        }
+
+        public String getRefreshToken() {
+            return refreshToken;
+        }
+
+        public Instant getExpiresAt() {
+            return expiresAt;
+        }
+
+        /**
+         * Lifetime from when the token was received to its expiry
+         */
+        public long getLifetimeMs() {
+            return Math.max(0, Duration.between(issuedAt, expiresAt).toMillis());
+        }
+
+        /**
+         * Check if the token expires within the given number of milliseconds
+         */
+        public boolean expiresWithin(long millis) {
+            return Instant.now().plusMillis(millis).isAfter(expiresAt);
+        }
+    }
+}
@@ -1,66 +1,70 @@
 package framework.config;
 
-import framework.utils.LogManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.Properties;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Manages configuration properties for different environments
  * Singleton pattern to ensure single instance across the framework
+ * All state lives in one immutable ConfigSnapshot that is swapped atomically, so readers never
+ * take a lock and never observe a partially loaded configuration
  */
 public class ConfigManager {
     private static final Logger logger = LoggerFactory.getLogger(ConfigManager.class);
-    private static ConfigManager instance;
-    private Properties properties;
-    private Environment currentEnvironment;
+    private final AtomicReference<ConfigSnapshot> snapshot;
 
     private ConfigManager() {
-        loadConfiguration();
+        // Get environment from system property, default to dev
+        String envName = System.getProperty("environment", "dev");
+        this.snapshot = new AtomicReference<>(loadConfiguration(Environment.fromString(envName)));
+    }
+
+    /**
+     * Lazy holder: the JVM guarantees one-time, thread-safe initialization without locking on access
+     */
+    private static final class Holder {
+        private static final ConfigManager INSTANCE = new ConfigManager();
     }
 
     /**
      * Get singleton instance of ConfigManager
      */
-    public static synchronized ConfigManager getInstance() {
-        if (instance == null) {
-            instance = new ConfigManager();
-        }
-        return instance;
+    public static ConfigManager getInstance() {
+        return Holder.INSTANCE;
     }
 
     /**
-     * Load configuration based on environment
+     * Load configuration for an environment into a new snapshot
      */
-    private void loadConfiguration() {
-        // Get environment from system property, default to dev
-        String envName = System.getProperty("environment", "dev");
-        currentEnvironment = Environment.fromString(envName);
-        
-        String configFile = "config/" + currentEnvironment.getName() + ".properties";
-        properties = new Properties();
+    private ConfigSnapshot loadConfiguration(Environment environment) {
+        String configFile = "config/" + environment.getName() + ".properties";
+        Properties properties = new Properties();
         
         try (InputStream inputStream = this.getClass().getClassLoader().getResourceAsStream(configFile)) {
             if (inputStream != null) {
                 properties.load(inputStream);
-                logger.info("Configuration loaded for environment: {}", currentEnvironment.getName());
+                logger.info("Configuration loaded for environment: {}", environment.getName());
             } else {
                 logger.warn("Configuration file not found: {}. Loading default properties.", configFile);
-                loadDefaultProperties();
+                loadDefaultProperties(properties);
             }
         } catch (IOException e) {
             logger.error("Error loading configuration file: {}", configFile, e);
-            loadDefaultProperties();
+            properties = new Properties();
+            loadDefaultProperties(properties);
         }
+        return ConfigSnapshot.from(environment, properties);
     }
 
     /**
      * Load default properties if environment-specific file is not found
      */
-    private void loadDefaultProperties() {
+    private void loadDefaultProperties(Properties properties) {
         properties.setProperty("base.url", "http://localhost:8080");
         properties.setProperty("timeout", "30000");
         properties.setProperty("auth.type", "basic");
@@ -69,18 +73,26 @@ public class ConfigManager {
         logger.info("Default properties loaded");
     }
 
+    /**
+     * Get the immutable, typed configuration snapshot
+     * Prefer this over getProperty on hot paths; it is rebuilt only when configuration changes
+     */
+    public ConfigSnapshot getSnapshot() {
+        return snapshot.get();
+    }
+
     /**
      * Get base URL for API
      */
     public String getBaseUrl() {
-        return getProperty("base.url", "http://localhost:8080");
+        return getSnapshot().getBaseUrl();
     }
 
     /**
      * Get request timeout in milliseconds
      */
     public int getTimeout() {
-        return Integer.parseInt(getProperty("timeout", "30000"));
+        return (int) getSnapshot().getTimeout().toMillis();
     }
 
     /**
@@ -115,24 +127,15 @@ public class ConfigManager {
      * Get current environment
      */
     public Environment getCurrentEnvironment() {
-        return currentEnvironment;
+        return getSnapshot().getEnvironment();
     }
 
     /**
      * Get property value with default fallback
      */
     public String getProperty(String key, String defaultValue) {
-        String value = properties.getProperty(key, defaultValue);
-        // Replace environment variables
-        if (value.startsWith("${") && value.endsWith("}")) {
-            String envVar = value.substring(2, value.length() - 1);
-            value = System.getenv(envVar);
-            if (value == null) {
-                logger.warn("Environment variable {} not found, using default: {}", envVar, defaultValue);
-                value = defaultValue;
-            }
-        }
-        return value;
+        // Environment variables are resolved once when the snapshot is built
+        return getSnapshot().getString(key, defaultValue);
     }
 
     /**
@@ -146,16 +149,16 @@ public class ConfigManager {
      * Set property value (for testing purposes)
      */
     public void setProperty(String key, String value) {
-        properties.setProperty(key, value);
+        snapshot.updateAndGet(current -> current.withProperty(key, value));
         logger.debug("Property set: {} = {}", key, value);
     }
 
     /**
      * Reload configuration for different environment
+     * The new configuration is fully loaded before being published in a single atomic swap
      */
     public void reloadConfiguration(Environment environment) {
-        currentEnvironment = environment;
-        loadConfiguration();
+        snapshot.set(loadConfiguration(environment));
         logger.info("Configuration reloaded for environment: {}", environment.getName());
     }
 
@@ -163,13 +166,13 @@ public class ConfigManager {
      * Get all properties (for debugging)
      */
     public Properties getAllProperties() {
-        return new Properties(properties);
+        return getSnapshot().getRawProperties();
     }
 
     /**
      * Check if property exists
      */
     public boolean hasProperty(String key) {
-        return properties.containsKey(key);
+        return getSnapshot().hasRawProperty(key);
     }
-}
\ No newline at end of file
+}
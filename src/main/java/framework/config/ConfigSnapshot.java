@@ -0,0 +1,282 @@
+package framework.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+/**
+ * Immutable, fully resolved view of the configuration
+ * Environment variable placeholders are resolved and hot-path values are parsed once when the
+ * snapshot is built, so request code never re-parses properties per call
+ */
+public final class ConfigSnapshot {
+    private static final Logger logger = LoggerFactory.getLogger(ConfigSnapshot.class);
+    private static final String ENDPOINT_GROUP_PREFIX = "endpoint.group.";
+
+    private final Environment environment;
+    private final Map<String, String> rawValues;
+    private final Map<String, String> values;
+
+    // Hot-path values used on every request
+    private final String baseUrl;
+    private final Duration timeout;
+    private final boolean extentRequestLoggingEnabled;
+    private final boolean logHeaders;
+    private final boolean logRequestBody;
+    private final boolean logResponseBody;
+    private final boolean prettyPrintJson;
+    private final int maxBodyLength;
+    private final Set<String> sensitiveHeaders;
+    private final List<Map.Entry<String, String>> endpointGroupPrefixes;
+
+    private ConfigSnapshot(Environment environment, Map<String, String> rawValues, Map<String, String> values) {
+        this.environment = environment;
+        this.rawValues = Collections.unmodifiableMap(rawValues);
+        this.values = Collections.unmodifiableMap(values);
+
+        this.baseUrl = getString("base.url", "http://localhost:8080");
+        this.timeout = getDuration("timeout", Duration.ofMillis(30000));
+        this.extentRequestLoggingEnabled = getBoolean("logging.request.response.enabled", false)
+                && getBoolean("logging.request.response.in.extent", false);
+        this.logHeaders = getBoolean("logging.headers.enabled", true);
+        this.logRequestBody = getBoolean("logging.request.body.enabled", true);
+        this.logResponseBody = getBoolean("logging.response.body.enabled", true);
+        this.prettyPrintJson = getBoolean("logging.pretty.print.json", true);
+        this.maxBodyLength = getInt("logging.max.body.length", 10000);
+        this.sensitiveHeaders = parseSensitiveHeaders(
+                getString("logging.exclude.sensitive.headers", "Authorization,X-API-Key,Cookie"));
+        this.endpointGroupPrefixes = parseEndpointGroups(values);
+    }
+
+    /**
+     * Build a snapshot from raw properties, resolving ${ENV_VAR} placeholders once
+     * Placeholders whose environment variable is missing are left unset so callers get their default
+     */
+    static ConfigSnapshot from(Environment environment, Properties properties) {
+        Map<String, String> rawValues = new HashMap<>();
+        Map<String, String> resolved = new HashMap<>();
+        for (String key : properties.stringPropertyNames()) {
+            String value = properties.getProperty(key);
+            rawValues.put(key, value);
+            if (value.startsWith("${") && value.endsWith("}")) {
+                String envVar = value.substring(2, value.length() - 1);
+                String envValue = System.getenv(envVar);
+                if (envValue == null) {
+                    logger.warn("Environment variable {} not found for property {}, defaults will be used", envVar, key);
+                    continue;
+                }
+                value = envValue;
+            }
+            resolved.put(key, value);
+        }
+        return new ConfigSnapshot(environment, rawValues, resolved);
+    }
+
+    /**
+     * Create a copy of this snapshot with one property overridden
+     */
+    ConfigSnapshot withProperty(String key, String value) {
+        Properties updated = getRawProperties();
+        updated.setProperty(key, value);
+        return from(environment, updated);
+    }
+
+    private static Set<String> parseSensitiveHeaders(String excludeHeaders) {
+        Set<String> headers = new HashSet<>();
+        for (String header : excludeHeaders.split(",")) {
+            headers.add(header.trim().toLowerCase());
+        }
+        return Collections.unmodifiableSet(headers);
+    }
+
+    /**
+     * Parse endpoint.group.<name>=<prefix>[,<prefix>...] into (prefix, group) pairs, longest prefix first
+     */
+    private static List<Map.Entry<String, String>> parseEndpointGroups(Map<String, String> values) {
+        List<Map.Entry<String, String>> prefixes = new ArrayList<>();
+        values.forEach((key, value) -> {
+            if (key.startsWith(ENDPOINT_GROUP_PREFIX)) {
+                String group = key.substring(ENDPOINT_GROUP_PREFIX.length());
+                for (String prefix : value.split(",")) {
+                    if (!prefix.trim().isEmpty()) {
+                        prefixes.add(new AbstractMap.SimpleImmutableEntry<>(prefix.trim(), group));
+                    }
+                }
+            }
+        });
+        prefixes.sort(Comparator.comparingInt((Map.Entry<String, String> entry) -> entry.getKey().length()).reversed());
+        return Collections.unmodifiableList(prefixes);
+    }
+
+    /**
+     * Get resolved string value with default fallback
+     */
+    public String getString(String key, String defaultValue) {
+        return values.getOrDefault(key, defaultValue);
+    }
+
+    /**
+     * Get resolved boolean value with default fallback
+     */
+    public boolean getBoolean(String key, boolean defaultValue) {
+        String value = values.get(key);
+        return value != null ? Boolean.parseBoolean(value.trim()) : defaultValue;
+    }
+
+    /**
+     * Get resolved int value with default fallback
+     */
+    public int getInt(String key, int defaultValue) {
+        String value = values.get(key);
+        return value != null ? Integer.parseInt(value.trim()) : defaultValue;
+    }
+
+    /**
+     * Get resolved long value with default fallback
+     */
+    public long getLong(String key, long defaultValue) {
+        String value = values.get(key);
+        return value != null ? Long.parseLong(value.trim()) : defaultValue;
+    }
+
+    /**
+     * Get resolved double value with default fallback
+     */
+    public double getDouble(String key, double defaultValue) {
+        String value = values.get(key);
+        return value != null ? Double.parseDouble(value.trim()) : defaultValue;
+    }
+
+    /**
+     * Get a duration configured in milliseconds with default fallback
+     */
+    public Duration getDuration(String key, Duration defaultValue) {
+        String value = values.get(key);
+        return value != null ? Duration.ofMillis(Long.parseLong(value.trim())) : defaultValue;
+    }
+
+    /**
+     * Get the endpoint group whose endpoint.group.<name> prefix matches the endpoint, or null
+     */
+    public String getEndpointGroup(String endpoint) {
+        for (Map.Entry<String, String> prefix : endpointGroupPrefixes) {
+            if (endpoint.startsWith(prefix.getKey())) {
+                return prefix.getValue();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Get the key for an endpoint-scoped API setting: <group>.api.<setting> when the endpoint's
+     * group defines it, otherwise api.<setting>
+     */
+    public String getEndpointKey(String endpoint, String setting) {
+        String group = getEndpointGroup(endpoint);
+        if (group != null && values.containsKey(group + ".api." + setting)) {
+            return group + ".api." + setting;
+        }
+        return "api." + setting;
+    }
+
+    /**
+     * Get an endpoint-scoped API setting as int, e.g. payment.api.retry.attempts falling back to api.retry.attempts
+     */
+    public int getEndpointInt(String endpoint, String setting, int defaultValue) {
+        return getInt(getEndpointKey(endpoint, setting), defaultValue);
+    }
+
+    /**
+     * Get an endpoint-scoped API setting as long, e.g. payment.api.timeout.socket falling back to api.timeout.socket
+     */
+    public long getEndpointLong(String endpoint, String setting, long defaultValue) {
+        return getLong(getEndpointKey(endpoint, setting), defaultValue);
+    }
+
+    /**
+     * Get an endpoint-scoped API setting as string
+     */
+    public String getEndpointString(String endpoint, String setting, String defaultValue) {
+        return getString(getEndpointKey(endpoint, setting), defaultValue);
+    }
+
+    /**
+     * Check if a resolved value exists for the key
+     */
+    public boolean has(String key) {
+        return values.containsKey(key);
+    }
+
+    /**
+     * Check if the key was defined in the loaded properties, resolved or not
+     */
+    public boolean hasRawProperty(String key) {
+        return rawValues.containsKey(key);
+    }
+
+    /**
+     * Get a copy of the unresolved properties
+     */
+    public Properties getRawProperties() {
+        Properties copy = new Properties();
+        copy.putAll(rawValues);
+        return copy;
+    }
+
+    public Environment getEnvironment() {
+        return environment;
+    }
+
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * True when request/response details should be written to the Extent report
+     */
+    public boolean isExtentRequestLoggingEnabled() {
+        return extentRequestLoggingEnabled;
+    }
+
+    public boolean isLogHeaders() {
+        return logHeaders;
+    }
+
+    public boolean isLogRequestBody() {
+        return logRequestBody;
+    }
+
+    public boolean isLogResponseBody() {
+        return logResponseBody;
+    }
+
+    public boolean isPrettyPrintJson() {
+        return prettyPrintJson;
+    }
+
+    public int getMaxBodyLength() {
+        return maxBodyLength;
+    }
+
+    /**
+     * Lower-cased names of headers that must be masked in logs
+     */
+    public Set<String> getSensitiveHeaders() {
+        return sensitiveHeaders;
+    }
+}
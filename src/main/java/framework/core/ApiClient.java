@@ -2,20 +2,38 @@ package framework.core;
 
 import framework.auth.AuthenticationManager;
 import framework.config.ConfigManager;
+import framework.config.ConfigSnapshot;
+import framework.performance.LatencyMetrics;
+import framework.reporting.AttachmentStore;
 import framework.reporting.ExtentReportManager;
 import framework.utils.LogManager;
+import framework.utils.UriTemplate;
 import io.restassured.RestAssured;
+import io.restassured.config.RestAssuredConfig;
 import io.restassured.http.ContentType;
+import io.restassured.http.Method;
 import io.restassured.response.Response;
 import io.restassured.specification.RequestSpecification;
+import io.restassured.specification.SpecificationQuerier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 
+import java.io.IOException;
+import java.io.Writer;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
-import java.util.HashSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 /**
  * Central API client that wraps RestAssured functionality
@@ -23,39 +41,26 @@ import java.util.HashSet;
  */
 public class ApiClient {
     private static final Logger logger = LoggerFactory.getLogger(ApiClient.class);
+    /** Extent category for scenarios where a request timed out */
+    public static final String TIMEOUT_CATEGORY = "API Timeout";
     private final ConfigManager configManager;
     private final AuthenticationManager authManager;
     private RequestSpecification requestSpec;
     private final ObjectMapper objectMapper;
-    private final Set<String> sensitiveHeaders;
 
     public ApiClient() {
         this.configManager = ConfigManager.getInstance();
         this.authManager = new AuthenticationManager();
         this.objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
-        this.sensitiveHeaders = initializeSensitiveHeaders();
         initializeRestAssured();
     }
 
-    /**
-     * Initialize list of sensitive headers to exclude from logging
-     */
-    private Set<String> initializeSensitiveHeaders() {
-        Set<String> headers = new HashSet<>();
-        String excludeHeaders = configManager.getProperty("logging.exclude.sensitive.headers",
-                "Authorization,X-API-Key,Cookie");
-        String[] headerArray = excludeHeaders.split(",");
-        for (String header : headerArray) {
-            headers.add(header.trim().toLowerCase());
-        }
-        return headers;
-    }
-
     /**
      * Initialize RestAssured with base configuration
      */
     private void initializeRestAssured() {
         RestAssured.baseURI = configManager.getBaseUrl();
+        ConnectionPoolManager.getInstance();
         RestAssured.enableLoggingOfRequestAndResponseIfValidationFails();
         
         requestSpec = RestAssured.given()
@@ -86,17 +91,7 @@ public class ApiClient {
      */
     public Response get(String endpoint) {
         logger.info("Performing GET request to: {}", endpoint);
-        RequestSpecification spec = getRequestSpec();
-        
-        // Log request if enabled
-        logRequest("GET", endpoint, null, spec);
-        
-        Response response = spec.get(endpoint);
-        
-        // Log response if enabled
-        logResponse(response);
-        
-        return response;
+        return execute(Method.GET, endpoint, getRequestSpec(), null);
     }
 
     /**
@@ -104,9 +99,7 @@ public class ApiClient {
      */
     public Response get(String endpoint, Map<String, Object> pathParams) {
         logger.info("Performing GET request to: {} with path params: {}", endpoint, pathParams);
-        return getRequestSpec()
-                .pathParams(pathParams)
-                .get(endpoint);
+        return execute(Method.GET, endpoint, pathParams, getRequestSpec(), null);
     }
 
     /**
@@ -114,61 +107,43 @@ public class ApiClient {
      */
     public Response getWithQueryParams(String endpoint, Map<String, Object> queryParams) {
         logger.info("Performing GET request to: {} with query params: {}", endpoint, queryParams);
-        return getRequestSpec()
-                .queryParams(queryParams)
-                .get(endpoint);
+        return execute(Method.GET, endpoint, getRequestSpec().queryParams(queryParams), null);
     }
 
     /**
      * Perform POST request with body
      */
     public Response post(String endpoint, Object body) {
-        logger.info("Performing POST request to: {} with body: {}", endpoint, body);
-        RequestSpecification spec = getRequestSpec().body(body);
-        
-        // Log request if enabled
-        logRequest("POST", endpoint, body, spec);
-        
-        Response response = spec.post(endpoint);
-        
-        // Log response if enabled
-        logResponse(response);
-        
-        return response;
+        logger.info("Performing POST request to: {}", endpoint);
+        logger.debug("POST request body: {}", body);
+        return execute(Method.POST, endpoint, getRequestSpec().body(body), body);
     }
 
     /**
      * Perform POST request with body and path parameters
      */
     public Response post(String endpoint, Object body, Map<String, Object> pathParams) {
-        logger.info("Performing POST request to: {} with body: {} and path params: {}", 
-                   endpoint, body, pathParams);
-        return getRequestSpec()
-                .body(body)
-                .pathParams(pathParams)
-                .post(endpoint);
+        logger.info("Performing POST request to: {} with path params: {}", endpoint, pathParams);
+        logger.debug("POST request body: {}", body);
+        return execute(Method.POST, endpoint, pathParams, getRequestSpec().body(body), body);
     }
 
     /**
      * Perform PUT request with body
      */
     public Response put(String endpoint, Object body) {
-        logger.info("Performing PUT request to: {} with body: {}", endpoint, body);
-        return getRequestSpec()
-                .body(body)
-                .put(endpoint);
+        logger.info("Performing PUT request to: {}", endpoint);
+        logger.debug("PUT request body: {}", body);
+        return execute(Method.PUT, endpoint, getRequestSpec().body(body), body);
     }
 
     /**
      * Perform PUT request with body and path parameters
      */
     public Response put(String endpoint, Object body, Map<String, Object> pathParams) {
-        logger.info("Performing PUT request to: {} with body: {} and path params: {}", 
-                   endpoint, body, pathParams);
-        return getRequestSpec()
-                .body(body)
-                .pathParams(pathParams)
-                .put(endpoint);
+        logger.info("Performing PUT request to: {} with path params: {}", endpoint, pathParams);
+        logger.debug("PUT request body: {}", body);
+        return execute(Method.PUT, endpoint, pathParams, getRequestSpec().body(body), body);
     }
 
     /**
@@ -176,7 +151,7 @@ public class ApiClient {
      */
     public Response delete(String endpoint) {
         logger.info("Performing DELETE request to: {}", endpoint);
-        return getRequestSpec().delete(endpoint);
+        return execute(Method.DELETE, endpoint, getRequestSpec(), null);
     }
 
     /**
@@ -184,19 +159,340 @@ public class ApiClient {
      */
     public Response delete(String endpoint, Map<String, Object> pathParams) {
         logger.info("Performing DELETE request to: {} with path params: {}", endpoint, pathParams);
-        return getRequestSpec()
-                .pathParams(pathParams)
-                .delete(endpoint);
+        return execute(Method.DELETE, endpoint, pathParams, getRequestSpec(), null);
     }
 
     /**
      * Perform PATCH request with body
      */
     public Response patch(String endpoint, Object body) {
-        logger.info("Performing PATCH request to: {} with body: {}", endpoint, body);
-        return getRequestSpec()
-                .body(body)
-                .patch(endpoint);
+        logger.info("Performing PATCH request to: {}", endpoint);
+        logger.debug("PATCH request body: {}", body);
+        return execute(Method.PATCH, endpoint, getRequestSpec().body(body), body);
+    }
+
+    /**
+     * Send a prepared request with request/response logging; every synchronous call goes through here
+     */
+    public Response execute(Method method, String endpoint, RequestSpecification spec, Object body) {
+        return execute(method, endpoint, Collections.emptyMap(), spec, body);
+    }
+
+    /**
+     * Send a prepared request to an endpoint template, expanding its path parameters first
+     */
+    public Response execute(Method method, String endpoint, Map<String, Object> pathParams,
+                            RequestSpecification spec, Object body) {
+        String path = expandPathParams(endpoint, pathParams, spec);
+        logRequest(method.name(), path, body, spec);
+        Response response = send(method, endpoint, path, spec);
+        logResponse(response);
+        return response;
+    }
+
+    /**
+     * Expand path parameters with the endpoint's pre-compiled template
+     * RestAssured URL-encodes the path it is given, so values made only of unreserved characters are
+     * inserted directly; anything else is left to RestAssured's own path parameter encoding
+     */
+    String expandPathParams(String endpoint, Map<String, Object> pathParams, RequestSpecification spec) {
+        if (pathParams.isEmpty()) {
+            return endpoint;
+        }
+        UriTemplate template = UriTemplate.of(endpoint);
+        if (UriTemplate.isUnreserved(pathParams.values())) {
+            return template.expand(pathParams, false);
+        }
+        template.validate(pathParams);
+        spec.pathParams(pathParams);
+        return endpoint;
+    }
+
+    /**
+     * Send a prepared request with no path parameters to expand
+     */
+    Response send(Method method, String endpoint, RequestSpecification spec) {
+        return send(method, endpoint, endpoint, spec);
+    }
+
+    /**
+     * Send a prepared request to an expanded path, retrying it as the retry policy allows
+     * Metrics, rate limits and retry settings are keyed by the endpoint template
+     */
+    Response send(Method method, String endpoint, String path, RequestSpecification spec) {
+        boolean hasIdempotencyKey = SpecificationQuerier.query(spec).getHeaders()
+                .hasHeaderWithName(RetryPolicy.IDEMPOTENCY_KEY_HEADER);
+        RequestTimeouts timeouts = RequestTimeouts.forEndpoint(configManager.getSnapshot(), endpoint);
+        long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeouts.getTotalMs());
+        return RetryPolicy.getInstance().execute(method.name(), endpoint, hasIdempotencyKey,
+                () -> sendOnce(method, endpoint, path, spec, timeouts, deadlineNanos));
+    }
+
+    /**
+     * Send a prepared request once and record its latency against the endpoint template
+     * (before path parameters are substituted)
+     * Time spent waiting for a rate limit permit is not counted as request latency
+     * Connect and socket timeouts are capped at what is left of the total timeout at deadlineNanos
+     */
+    private Response sendOnce(Method method, String endpoint, String path, RequestSpecification spec,
+                              RequestTimeouts endpointTimeouts, long deadlineNanos) {
+        RateLimiter.getInstance().acquire(endpoint);
+        CircuitBreaker circuitBreaker = CircuitBreaker.forEndpoint(endpoint);
+        long remainingMs = TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime());
+        if (remainingMs <= 0) {
+            ApiTimeoutException timeout = endpointTimeouts.totalTimeout(method.name(), endpoint, null);
+            reportTimeout(timeout);
+            throw timeout;
+        }
+        RequestTimeouts timeouts = endpointTimeouts.withinRemaining(remainingMs);
+        RestAssuredConfig specConfig = SpecificationQuerier.query(spec).getConfig();
+        spec.config(ConnectionPoolManager.getInstance()
+                .withTimeouts(specConfig != null ? specConfig : RestAssured.config(), timeouts));
+        // Acquired last, and every path after it reports an outcome, so a half-open probe slot is never held
+        circuitBreaker.acquirePermission();
+        boolean reported = false;
+        long startNanos = System.nanoTime();
+        try {
+            Response response;
+            try {
+                response = spec.request(method, path);
+            } catch (Exception e) {
+                // Connection failures arrive as undeclared IOExceptions, so catch everything
+                long latencyNanos = System.nanoTime() - startNanos;
+                ApiTimeoutException timeout = timeouts.toTimeoutException(e, method.name(), endpoint);
+                reported = true;
+                if (timeout != null) {
+                    circuitBreaker.onFailure("timeout (" + timeout.getPhase() + ")");
+                    LatencyMetrics.record(method.name(), endpoint, latencyNanos, LatencyMetrics.STATUS_TIMEOUT);
+                    reportTimeout(timeout);
+                    throw timeout;
+                }
+                circuitBreaker.onFailure(e.getClass().getSimpleName());
+                LatencyMetrics.record(method.name(), endpoint, latencyNanos, 0);
+                throw e;
+            }
+            reported = true;
+            recordOutcome(circuitBreaker, response.getStatusCode());
+            LatencyMetrics.record(method.name(), endpoint, System.nanoTime() - startNanos, response.getStatusCode());
+            return response;
+        } finally {
+            if (!reported) {
+                circuitBreaker.onFailure("request aborted");
+            }
+        }
+    }
+
+    /**
+     * Log a timeout and file the current test under the timeout category
+     */
+    private static void reportTimeout(ApiTimeoutException timeout) {
+        logger.warn(timeout.getMessage());
+        ExtentReportManager.logWarning(timeout.getMessage());
+        ExtentReportManager.assignCategory(TIMEOUT_CATEGORY);
+    }
+
+    /**
+     * Record a response against its circuit breaker; 5xx responses count as failures
+     */
+    private static void recordOutcome(CircuitBreaker circuitBreaker, int statusCode) {
+        if (statusCode >= 500) {
+            circuitBreaker.onFailure("HTTP " + statusCode);
+        } else {
+            circuitBreaker.onSuccess();
+        }
+    }
+
+    /**
+     * Perform GET request asynchronously
+     */
+    public CompletableFuture<Response> getAsync(String endpoint) {
+        return sendAsync("GET", endpoint, Collections.emptyMap(), null);
+    }
+
+    /**
+     * Perform GET request with path parameters asynchronously
+     */
+    public CompletableFuture<Response> getAsync(String endpoint, Map<String, Object> pathParams) {
+        return sendAsync("GET", endpoint, pathParams, null);
+    }
+
+    /**
+     * Perform POST request with body asynchronously
+     */
+    public CompletableFuture<Response> postAsync(String endpoint, Object body) {
+        return sendAsync("POST", endpoint, Collections.emptyMap(), body);
+    }
+
+    /**
+     * Perform PUT request with body asynchronously
+     */
+    public CompletableFuture<Response> putAsync(String endpoint, Object body) {
+        return sendAsync("PUT", endpoint, Collections.emptyMap(), body);
+    }
+
+    /**
+     * Perform PUT request with body and path parameters asynchronously
+     */
+    public CompletableFuture<Response> putAsync(String endpoint, Object body, Map<String, Object> pathParams) {
+        return sendAsync("PUT", endpoint, pathParams, body);
+    }
+
+    /**
+     * Perform PATCH request with body asynchronously
+     */
+    public CompletableFuture<Response> patchAsync(String endpoint, Object body) {
+        return sendAsync("PATCH", endpoint, Collections.emptyMap(), body);
+    }
+
+    /**
+     * Perform DELETE request asynchronously
+     */
+    public CompletableFuture<Response> deleteAsync(String endpoint) {
+        return sendAsync("DELETE", endpoint, Collections.emptyMap(), null);
+    }
+
+    /**
+     * Perform DELETE request with path parameters asynchronously
+     */
+    public CompletableFuture<Response> deleteAsync(String endpoint, Map<String, Object> pathParams) {
+        return sendAsync("DELETE", endpoint, pathParams, null);
+    }
+
+    /**
+     * Dispatch a request on the non-blocking engine
+     * The calling thread returns immediately; the response is logged when it completes
+     */
+    private CompletableFuture<Response> sendAsync(String method, String endpoint,
+                                                  Map<String, Object> pathParams, Object body) {
+        String resolvedEndpoint = resolvePathParams(endpoint, pathParams);
+        logger.info("Performing async {} request to: {}", method, resolvedEndpoint);
+
+        Map<String, String> headers = new HashMap<>();
+        headers.put("Content-Type", ContentType.JSON.toString());
+        headers.put("Accept", ContentType.JSON.toString());
+        headers.putAll(authManager.getAuthenticationHeaders());
+
+        String bodyStr;
+        try {
+            bodyStr = serializeBody(body);
+        } catch (JsonProcessingException e) {
+            CompletableFuture<Response> failed = new CompletableFuture<>();
+            failed.completeExceptionally(e);
+            return failed;
+        }
+
+        logRequest(method, resolvedEndpoint, body, null);
+
+        // Response callbacks run on engine threads, so carry the scenario's context across
+        Consumer<ApiTimeoutException> timeoutReporter = ContextPropagation.wrap(
+                (ApiTimeoutException timeout) -> reportTimeout(timeout));
+        LatencyMetrics.Window latencyWindow = LatencyMetrics.currentWindow();
+        RequestTimeouts timeouts = RequestTimeouts.forEndpoint(configManager.getSnapshot(), endpoint);
+        long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeouts.getTotalMs());
+        return RetryPolicy.getInstance()
+                .executeAsync(method, endpoint, headers.containsKey(RetryPolicy.IDEMPOTENCY_KEY_HEADER),
+                        () -> sendOnceAsync(method, endpoint, resolvedEndpoint, headers, bodyStr, timeoutReporter,
+                                latencyWindow, timeouts, deadlineNanos))
+                .thenApply(ContextPropagation.wrap((Response response) -> {
+                    logResponse(response);
+                    return response;
+                }));
+    }
+
+    /**
+     * Dispatch one attempt on the non-blocking engine
+     * A rate-limited request is scheduled for later rather than parking the calling thread
+     * Timeouts are reported through timeoutReporter, which carries the scenario's context onto the engine thread;
+     * latencies also go to the scenario's latency window, captured on the calling thread
+     * Each attempt gets only what is left of the total timeout at deadlineNanos
+     */
+    private CompletableFuture<Response> sendOnceAsync(String method, String endpoint, String resolvedEndpoint,
+                                                      Map<String, String> headers, String bodyStr,
+                                                      Consumer<ApiTimeoutException> timeoutReporter,
+                                                      LatencyMetrics.Window latencyWindow,
+                                                      RequestTimeouts timeouts, long deadlineNanos) {
+        long rateLimitWait;
+        try {
+            rateLimitWait = RateLimiter.getInstance().reserve(endpoint);
+        } catch (IllegalStateException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        CompletableFuture<Void> permit = rateLimitWait > 0
+                ? CompletableFuture.runAsync(() -> { },
+                        CompletableFuture.delayedExecutor(rateLimitWait, TimeUnit.NANOSECONDS))
+                : CompletableFuture.completedFuture(null);
+
+        CircuitBreaker circuitBreaker = CircuitBreaker.forEndpoint(endpoint);
+        return permit.thenCompose(ignored -> {
+            String url = toAbsoluteUrl(resolvedEndpoint);
+            long remainingMs = TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime());
+            if (remainingMs <= 0) {
+                ApiTimeoutException timeout = timeouts.totalTimeout(method, endpoint, null);
+                timeoutReporter.accept(timeout);
+                throw timeout;
+            }
+            // As in sendOnce, the breaker hears back from every permitted request before anything else runs
+            circuitBreaker.acquirePermission();
+            long startNanos = System.nanoTime();
+            CompletableFuture<Response> sent;
+            try {
+                sent = AsyncHttpEngine.getInstance()
+                        .send(method, url, headers, bodyStr, Duration.ofMillis(remainingMs));
+            } catch (RuntimeException e) {
+                circuitBreaker.onFailure(e.getClass().getSimpleName());
+                throw e;
+            }
+            return sent.handle((response, error) -> {
+                long latencyNanos = System.nanoTime() - startNanos;
+                if (response != null) {
+                    recordOutcome(circuitBreaker, response.getStatusCode());
+                    LatencyMetrics.record(latencyWindow, method, endpoint, latencyNanos, response.getStatusCode());
+                    return response;
+                }
+                Throwable cause = error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause() : error;
+                ApiTimeoutException timeout = timeouts.toTimeoutException(cause, method, endpoint);
+                if (timeout != null) {
+                    circuitBreaker.onFailure("timeout (" + timeout.getPhase() + ")");
+                    LatencyMetrics.record(latencyWindow, method, endpoint, latencyNanos, LatencyMetrics.STATUS_TIMEOUT);
+                    timeoutReporter.accept(timeout);
+                    throw timeout;
+                }
+                circuitBreaker.onFailure(cause != null ? cause.getClass().getSimpleName() : "no response");
+                LatencyMetrics.record(latencyWindow, method, endpoint, latencyNanos, 0);
+                throw cause instanceof RuntimeException ? (RuntimeException) cause : new CompletionException(cause);
+            });
+        });
+    }
+
+    /**
+     * Substitute {name} placeholders in the endpoint with URL-encoded path parameter values
+     */
+    private String resolvePathParams(String endpoint, Map<String, Object> pathParams) {
+        return pathParams.isEmpty() ? endpoint : UriTemplate.of(endpoint).expand(pathParams);
+    }
+
+    /**
+     * Prefix relative endpoints with the configured base URL
+     */
+    private String toAbsoluteUrl(String endpoint) {
+        if (endpoint.startsWith("http://") || endpoint.startsWith("https://")) {
+            return endpoint;
+        }
+        return configManager.getBaseUrl() + endpoint;
+    }
+
+    /**
+     * Serialize a request body to compact JSON
+     */
+    private String serializeBody(Object body) throws JsonProcessingException {
+        if (body == null) {
+            return null;
+        }
+        if (body instanceof String) {
+            return (String) body;
+        }
+        return objectMapper.writer().without(SerializationFeature.INDENT_OUTPUT).writeValueAsString(body);
     }
 
     /**
@@ -263,34 +559,18 @@ public class ApiClient {
      * Log request details to extent report if enabled
      */
     private void logRequest(String method, String endpoint, Object body, RequestSpecification spec) {
-        boolean loggingEnabled = Boolean.parseBoolean(
-                configManager.getProperty("logging.request.response.enabled", "false"));
-        boolean extentEnabled = Boolean.parseBoolean(
-                configManager.getProperty("logging.request.response.in.extent", "false"));
-        
-        if (!loggingEnabled || !extentEnabled) {
+        ConfigSnapshot config = configManager.getSnapshot();
+        if (!isReportLoggingActive(config)) {
             return;
         }
 
         try {
-            boolean logHeaders = Boolean.parseBoolean(
-                    configManager.getProperty("logging.headers.enabled", "true"));
-            boolean logBody = Boolean.parseBoolean(
-                    configManager.getProperty("logging.request.body.enabled", "true"));
-            boolean prettyPrint = Boolean.parseBoolean(
-                    configManager.getProperty("logging.pretty.print.json", "true"));
-
-            String fullUrl = configManager.getBaseUrl() + endpoint;
-            String headersStr = logHeaders ? buildHeadersString() : null;
+            String fullUrl = config.getBaseUrl() + endpoint;
+            String headersStr = config.isLogHeaders() ? buildHeadersString() : null;
             String bodyStr = null;
             
-            if (logBody && body != null) {
-                bodyStr = formatJsonIfNeeded(body, prettyPrint);
-                int maxLength = Integer.parseInt(
-                        configManager.getProperty("logging.max.body.length", "10000"));
-                if (bodyStr.length() > maxLength) {
-                    bodyStr = bodyStr.substring(0, maxLength) + "\n... (truncated)";
-                }
+            if (config.isLogRequestBody() && body != null) {
+                bodyStr = formatForReport(serializeBody(body), config);
             }
 
             ExtentReportManager.logApiRequestFormatted(method, endpoint, fullUrl, headersStr, bodyStr);
@@ -304,25 +584,15 @@ public class ApiClient {
      * Log response details to extent report if enabled
      */
     private void logResponse(Response response) {
-        boolean loggingEnabled = Boolean.parseBoolean(
-                configManager.getProperty("logging.request.response.enabled", "false"));
-        boolean extentEnabled = Boolean.parseBoolean(
-                configManager.getProperty("logging.request.response.in.extent", "false"));
-        
-        if (!loggingEnabled || !extentEnabled) {
+        ConfigSnapshot config = configManager.getSnapshot();
+        if (!isReportLoggingActive(config)) {
             return;
         }
 
         try {
-            boolean logHeaders = Boolean.parseBoolean(
-                    configManager.getProperty("logging.headers.enabled", "true"));
-            boolean logBody = Boolean.parseBoolean(
-                    configManager.getProperty("logging.response.body.enabled", "true"));
-            boolean prettyPrint = Boolean.parseBoolean(
-                    configManager.getProperty("logging.pretty.print.json", "true"));
-
             String headersStr = null;
-            if (logHeaders) {
+            if (config.isLogHeaders()) {
+                Set<String> sensitiveHeaders = config.getSensitiveHeaders();
                 StringBuilder headerBuilder = new StringBuilder();
                 response.getHeaders().forEach(header -> {
                     String headerName = header.getName().toLowerCase();
@@ -336,15 +606,10 @@ public class ApiClient {
             }
 
             String bodyStr = null;
-            if (logBody) {
+            if (config.isLogResponseBody()) {
                 bodyStr = response.getBody().asString();
                 if (bodyStr != null && !bodyStr.trim().isEmpty()) {
-                    bodyStr = formatJsonIfNeeded(bodyStr, prettyPrint);
-                    int maxLength = Integer.parseInt(
-                            configManager.getProperty("logging.max.body.length", "10000"));
-                    if (bodyStr.length() > maxLength) {
-                        bodyStr = bodyStr.substring(0, maxLength) + "\n... (truncated)";
-                    }
+                    bodyStr = formatForReport(bodyStr, config);
                 }
             }
 
@@ -360,6 +625,55 @@ public class ApiClient {
         }
     }
 
+    /**
+     * Check if request/response details will actually reach a report
+     * Threads without a scenario test (e.g. load test workers) skip all formatting
+     */
+    private boolean isReportLoggingActive(ConfigSnapshot config) {
+        return config.isExtentRequestLoggingEnabled() && ExtentReportManager.getCurrentTest() != null;
+    }
+
+    /**
+     * Render a body for the report
+     * Bodies large enough to be stored as report attachments are kept whole and unformatted; anything
+     * else is pretty-printed only as far as the max body length, then truncated
+     */
+    private String formatForReport(String body, ConfigSnapshot config) {
+        if (AttachmentStore.shouldSpill(body)) {
+            return body;
+        }
+        int maxLength = config.getMaxBodyLength();
+        String formatted = body;
+        if (config.isPrettyPrintJson()) {
+            String trimmed = body.trim();
+            if (trimmed.startsWith("{") || trimmed.startsWith("[")) {
+                formatted = prettyPrint(body, maxLength);
+            }
+        }
+        if (formatted.length() > maxLength) {
+            return formatted.substring(0, maxLength) + "\n... (truncated)";
+        }
+        return formatted;
+    }
+
+    /**
+     * Pretty-print JSON by streaming tokens, stopping once the output passes maxLength
+     * Returns the input unchanged if it is not valid JSON
+     */
+    private String prettyPrint(String json, int maxLength) {
+        BoundedWriter out = new BoundedWriter(maxLength + 1);
+        try (JsonParser parser = objectMapper.getFactory().createParser(json);
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(out).useDefaultPrettyPrinter()) {
+            parser.nextToken();
+            generator.copyCurrentStructure(parser);
+        } catch (BoundedWriter.LimitReachedException e) {
+            // Enough output for the report
+        } catch (IOException e) {
+            return json;
+        }
+        return out.toString();
+    }
+
     /**
      * Build headers string for logging
      */
@@ -374,29 +688,48 @@ public class ApiClient {
     }
 
     /**
-     * Format JSON string for better readability if needed
+     * Writer that keeps at most a fixed number of characters and then fails fast
      */
-    private String formatJsonIfNeeded(Object obj, boolean prettyPrint) {
-        if (!prettyPrint) {
-            return obj.toString();
+    private static final class BoundedWriter extends Writer {
+        private final StringBuilder buffer = new StringBuilder();
+        private final int limit;
+
+        BoundedWriter(int limit) {
+            this.limit = limit;
         }
 
-        try {
-            if (obj instanceof String) {
-                String str = (String) obj;
-                if (str.trim().startsWith("{") || str.trim().startsWith("[")) {
-                    // It's likely JSON, try to pretty print it
-                    Object jsonObj = objectMapper.readValue(str, Object.class);
-                    return objectMapper.writeValueAsString(jsonObj);
-                }
-                return str;
-            } else {
-                // Convert object to pretty JSON
-                return objectMapper.writeValueAsString(obj);
+        @Override
+        public void write(char[] chars, int offset, int length) throws IOException {
+            int remaining = limit - buffer.length();
+            buffer.append(chars, offset, Math.min(length, remaining));
+            if (length > remaining) {
+                throw LimitReachedException.INSTANCE;
+            }
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public String toString() {
+            return buffer.toString();
+        }
+
+        /**
+         * Thrown once the limit is reached; shared and stackless since it only stops the copy
+         */
+        private static final class LimitReachedException extends IOException {
+            private static final LimitReachedException INSTANCE = new LimitReachedException();
+
+            @Override
+            public synchronized Throwable fillInStackTrace() {
+                return this;
             }
-        } catch (Exception e) {
-            // If JSON parsing fails, return as string
-            return obj.toString();
         }
     }
 }
\ No newline at end of file
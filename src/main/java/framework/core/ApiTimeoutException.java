@@ -0,0 +1,43 @@
+package framework.core;
+
+/**
+ * Thrown when a request exceeds one of its configured timeouts
+ * Kept distinct from other failures so timeouts can be told apart from errors in reports and metrics
+ */
+public class ApiTimeoutException extends RuntimeException {
+
+    /**
+     * Which deadline was exceeded
+     */
+    public enum Phase {
+        /** Establishing the connection (timeout.connection) */
+        CONNECT,
+        /** Waiting for response data (timeout.socket) */
+        READ,
+        /** The whole request (timeout.total) */
+        TOTAL
+    }
+
+    private final Phase phase;
+    private final String endpoint;
+    private final long timeoutMs;
+
+    public ApiTimeoutException(Phase phase, String method, String endpoint, long timeoutMs, Throwable cause) {
+        super(String.format("%s timeout after %dms: %s %s", phase, timeoutMs, method, endpoint), cause);
+        this.phase = phase;
+        this.endpoint = endpoint;
+        this.timeoutMs = timeoutMs;
+    }
+
+    public Phase getPhase() {
+        return phase;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public long getTimeoutMs() {
+        return timeoutMs;
+    }
+}
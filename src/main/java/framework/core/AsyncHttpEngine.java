@@ -0,0 +1,124 @@
+package framework.core;
+
+import framework.config.ConfigManager;
+import framework.config.ConfigSnapshot;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Non-blocking HTTP engine backing the asynchronous ApiClient verbs
+ * Uses the JDK HttpClient so in-flight requests do not each hold a thread
+ */
+public class AsyncHttpEngine {
+    private static final Logger logger = LoggerFactory.getLogger(AsyncHttpEngine.class);
+    private static volatile AsyncHttpEngine instance;
+
+    private final HttpClient httpClient;
+    private final ExecutorService callbackExecutor;
+    private final Duration requestTimeout;
+
+    private AsyncHttpEngine() {
+        ConfigSnapshot config = ConfigManager.getInstance().getSnapshot();
+        int threads = config.getInt("async.http.threads", 4);
+        this.requestTimeout = config.getTimeout();
+        this.callbackExecutor = Executors.newFixedThreadPool(threads, new DaemonThreadFactory());
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(RequestTimeouts.forEndpoint(config, "").getConnectMs()))
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .executor(callbackExecutor)
+                .build();
+        logger.info("Async HTTP engine initialized with {} callback threads", threads);
+    }
+
+    /**
+     * Get singleton instance of AsyncHttpEngine
+     */
+    public static AsyncHttpEngine getInstance() {
+        AsyncHttpEngine result = instance;
+        if (result == null) {
+            synchronized (AsyncHttpEngine.class) {
+                result = instance;
+                if (result == null) {
+                    result = new AsyncHttpEngine();
+                    instance = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Send a request without blocking the calling thread
+     */
+    public CompletableFuture<Response> send(String method, String url, Map<String, String> headers, String body) {
+        return send(method, url, headers, body, requestTimeout);
+    }
+
+    /**
+     * Send a request without blocking the calling thread, failing it once the total timeout elapses
+     */
+    public CompletableFuture<Response> send(String method, String url, Map<String, String> headers, String body,
+                                            Duration timeout) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url))
+                .timeout(timeout)
+                .method(method, body == null
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofString(body));
+        headers.forEach(builder::header);
+
+        logger.debug("Dispatching async {} request to: {}", method, url);
+        return httpClient.sendAsync(builder.build(), HttpResponse.BodyHandlers.ofByteArray())
+                .thenApply(this::toRestAssuredResponse);
+    }
+
+    /**
+     * Convert a JDK HttpResponse into a RestAssured Response so existing validators can be reused
+     */
+    private Response toRestAssuredResponse(HttpResponse<byte[]> httpResponse) {
+        List<Header> headerList = new ArrayList<>();
+        httpResponse.headers().map().forEach((name, values) ->
+                values.forEach(value -> headerList.add(new Header(name, value))));
+
+        ResponseBuilder responseBuilder = new ResponseBuilder()
+                .setStatusCode(httpResponse.statusCode())
+                .setStatusLine("HTTP/1.1 " + httpResponse.statusCode())
+                .setHeaders(new Headers(headerList))
+                .setBody(httpResponse.body());
+        httpResponse.headers().firstValue("Content-Type").ifPresent(responseBuilder::setContentType);
+
+        return responseBuilder.build();
+    }
+
+    /**
+     * Thread factory creating named daemon threads for async callbacks
+     */
+    private static class DaemonThreadFactory implements ThreadFactory {
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "async-http-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
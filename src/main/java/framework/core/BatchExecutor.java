@@ -0,0 +1,95 @@
+package framework.core;
+
+import framework.config.ConfigManager;
+import framework.reporting.ExtentReportManager;
+import framework.utils.VirtualThreadSupport;
+import io.restassured.response.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Sends a batch of independent requests concurrently, at most `parallelism` at a time
+ * Each request runs on its own (virtual, when available) thread with the calling scenario's
+ * context, so request logging still lands in the scenario's report
+ */
+public class BatchExecutor {
+    private static final Logger logger = LoggerFactory.getLogger(BatchExecutor.class);
+
+    private final int parallelism;
+
+    public BatchExecutor(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Batch parallelism must be at least 1: " + parallelism);
+        }
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Build an executor from performance.batch.parallelism
+     */
+    public static BatchExecutor fromConfig() {
+        return new BatchExecutor(ConfigManager.getInstance().getSnapshot().getInt("performance.batch.parallelism", 10));
+    }
+
+    /**
+     * Run labelled requests concurrently and wait for all of them
+     * Results are returned in the map's iteration order; a request that throws is recorded as a failed item
+     */
+    public BatchResult run(String name, Map<String, Supplier<Response>> requests) {
+        logger.info("Starting batch '{}' - {} requests, parallelism={}", name, requests.size(), parallelism);
+
+        Semaphore permits = new Semaphore(parallelism);
+        List<CompletableFuture<BatchResult.Item>> futures = new ArrayList<>(requests.size());
+        ExecutorService executor = VirtualThreadSupport.newThreadPerTaskExecutor("batch-worker");
+        long startNanos = System.nanoTime();
+        try {
+            for (Map.Entry<String, Supplier<Response>> request : requests.entrySet()) {
+                permits.acquire();
+                String label = request.getKey();
+                Supplier<Response> task = request.getValue();
+                futures.add(CompletableFuture.supplyAsync(ContextPropagation.wrap(() -> send(label, task)), executor)
+                        .whenComplete((item, error) -> permits.release()));
+            }
+            List<BatchResult.Item> items = new ArrayList<>(futures.size());
+            for (CompletableFuture<BatchResult.Item> future : futures) {
+                items.add(future.join());
+            }
+
+            BatchResult result = new BatchResult(name, items,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+            logger.info("Batch finished - {}", result.toSummary());
+            ExtentReportManager.logInfo("Batch " + result.toSummary());
+            return result;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            futures.forEach(future -> future.cancel(true));
+            throw new IllegalStateException("Batch interrupted: " + name, e);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static BatchResult.Item send(String label, Supplier<Response> task) {
+        long startNanos = System.nanoTime();
+        try {
+            Response response = task.get();
+            return new BatchResult.Item(label, response, null, System.nanoTime() - startNanos);
+        } catch (RuntimeException e) {
+            logger.warn("Batch request failed: {}", label, e);
+            return new BatchResult.Item(label, null, e, System.nanoTime() - startNanos);
+        }
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+}
@@ -0,0 +1,163 @@
+package framework.core;
+
+import framework.performance.LatencySummary;
+import io.restassured.response.Response;
+import org.HdrHistogram.Histogram;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Per-request outcomes and aggregate status counts and latency of a batch
+ */
+public final class BatchResult {
+    private final String name;
+    private final List<Item> items;
+    private final long elapsedMs;
+    private final Map<Integer, Long> statusCounts = new TreeMap<>();
+    private final LatencySummary latency;
+
+    BatchResult(String name, List<Item> items, long elapsedMs) {
+        this.name = name;
+        this.items = Collections.unmodifiableList(items);
+        this.elapsedMs = elapsedMs;
+
+        Histogram latencies = new Histogram(3);
+        for (Item item : items) {
+            latencies.recordValue(TimeUnit.NANOSECONDS.toMicros(item.latencyNanos));
+            statusCounts.merge(item.getStatusCode(), 1L, Long::sum);
+        }
+        this.latency = LatencySummary.fromHistogram(latencies);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Per-request results, in submission order
+     */
+    public List<Item> getItems() {
+        return items;
+    }
+
+    public int size() {
+        return items.size();
+    }
+
+    /**
+     * Wall-clock time for the whole batch
+     */
+    public long getElapsedMs() {
+        return elapsedMs;
+    }
+
+    /**
+     * Number of responses per HTTP status code (0 for requests that threw)
+     */
+    public Map<Integer, Long> getStatusCounts() {
+        return Collections.unmodifiableMap(statusCounts);
+    }
+
+    /**
+     * Number of responses with the given status code
+     */
+    public long countStatus(int statusCode) {
+        return statusCounts.getOrDefault(statusCode, 0L);
+    }
+
+    /**
+     * Number of requests that returned a 2xx status
+     */
+    public long getSuccessCount() {
+        return items.stream().filter(Item::isSuccess).count();
+    }
+
+    /**
+     * Requests that threw instead of returning a response
+     */
+    public List<Item> getErrors() {
+        return items.stream().filter(item -> item.getError() != null).collect(Collectors.toList());
+    }
+
+    /**
+     * Responses of the requests that completed, in submission order
+     */
+    public List<Response> getResponses() {
+        return items.stream().map(Item::getResponse).filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    public LatencySummary getLatency() {
+        return latency;
+    }
+
+    /**
+     * Get the result formatted for logging and reporting
+     */
+    public String toSummary() {
+        return String.format("%s: requests=%d, succeeded=%d, errors=%d, elapsed=%dms, latency %s, statuses=%s",
+                name, items.size(), getSuccessCount(), getErrors().size(), elapsedMs, latency, statusCounts);
+    }
+
+    @Override
+    public String toString() {
+        return toSummary();
+    }
+
+    /**
+     * Outcome of one request in the batch
+     */
+    public static final class Item {
+        private final String label;
+        private final Response response;
+        private final RuntimeException error;
+        private final long latencyNanos;
+
+        Item(String label, Response response, RuntimeException error, long latencyNanos) {
+            this.label = label;
+            this.response = response;
+            this.error = error;
+            this.latencyNanos = latencyNanos;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+
+        /**
+         * The response, or null if the request threw
+         */
+        public Response getResponse() {
+            return response;
+        }
+
+        /**
+         * The exception thrown by the request, or null if it completed
+         */
+        public RuntimeException getError() {
+            return error;
+        }
+
+        /**
+         * HTTP status code, or 0 if the request threw
+         */
+        public int getStatusCode() {
+            return response != null ? response.getStatusCode() : 0;
+        }
+
+        public boolean isSuccess() {
+            int status = getStatusCode();
+            return status >= 200 && status < 300;
+        }
+
+        public double getLatencyMs() {
+            return latencyNanos / 1_000_000.0;
+        }
+    }
+}
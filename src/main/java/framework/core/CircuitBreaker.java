@@ -0,0 +1,252 @@
+package framework.core;
+
+import framework.config.ConfigManager;
+import framework.config.ConfigSnapshot;
+import framework.reporting.ExtentReportManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Circuit breaker per base URL, so a dead downstream fails scenarios fast instead of each waiting out the timeout
+ * Opens when at least circuit.breaker.failure.threshold of the last circuit.breaker.window.size calls failed
+ * and the failure rate reaches circuit.breaker.failure.rate.threshold percent. After circuit.breaker.timeout
+ * it half-opens and lets circuit.breaker.half.open.probes requests through: all succeeding closes it, any
+ * failing reopens it with the open time doubled, up to circuit.breaker.recovery.timeout
+ * Connection failures, timeouts and 5xx responses count as failures
+ */
+public final class CircuitBreaker {
+    private static final Logger logger = LoggerFactory.getLogger(CircuitBreaker.class);
+    private static final ConcurrentMap<String, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+
+    /**
+     * Circuit states
+     */
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final String baseUrl;
+    private final boolean enabled;
+    private final int failureThreshold;
+    private final double failureRateThreshold;
+    private final long openNanos;
+    private final long maxOpenNanos;
+    private final int halfOpenProbes;
+
+    // Guarded by this
+    private final boolean[] window;
+    private int windowCalls;
+    private int windowFailures;
+    private int windowIndex;
+    private State state = State.CLOSED;
+    private long currentOpenNanos;
+    private long openedAtNanos;
+    private int probesInFlight;
+    private int probeSuccesses;
+    private long calls;
+    private long failures;
+    private long rejected;
+    private int transitions;
+
+    private CircuitBreaker(String baseUrl, ConfigSnapshot config) {
+        this(baseUrl, config.getBoolean("circuit.breaker.enabled", false),
+                config.getInt("circuit.breaker.window.size", 20),
+                config.getInt("circuit.breaker.failure.threshold", 10),
+                config.getDouble("circuit.breaker.failure.rate.threshold", 50.0),
+                config.getLong("circuit.breaker.timeout", 30000),
+                config.getLong("circuit.breaker.recovery.timeout", 60000),
+                config.getInt("circuit.breaker.half.open.probes", 3));
+    }
+
+    /**
+     * Create a standalone breaker with explicit settings (forBaseUrl shares one per base URL from config)
+     */
+    CircuitBreaker(String baseUrl, boolean enabled, int windowSize, int failureThreshold, double failureRateThreshold,
+                   long openTimeoutMs, long recoveryTimeoutMs, int halfOpenProbes) {
+        this.baseUrl = baseUrl;
+        this.enabled = enabled;
+        this.window = new boolean[Math.max(1, windowSize)];
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.failureRateThreshold = failureRateThreshold;
+        this.openNanos = TimeUnit.MILLISECONDS.toNanos(openTimeoutMs);
+        this.maxOpenNanos = Math.max(openNanos, TimeUnit.MILLISECONDS.toNanos(recoveryTimeoutMs));
+        this.halfOpenProbes = Math.max(1, halfOpenProbes);
+        this.currentOpenNanos = openNanos;
+    }
+
+    /**
+     * Get the circuit breaker for a base URL, e.g. http://localhost:8081
+     */
+    public static CircuitBreaker forBaseUrl(String baseUrl) {
+        return breakers.computeIfAbsent(baseUrl,
+                url -> new CircuitBreaker(url, ConfigManager.getInstance().getSnapshot()));
+    }
+
+    /**
+     * Get the circuit breaker for a request URL or endpoint; relative endpoints belong to the configured base URL
+     */
+    public static CircuitBreaker forEndpoint(String endpoint) {
+        return forBaseUrl(baseUrlOf(endpoint));
+    }
+
+    static String baseUrlOf(String endpoint) {
+        int scheme = endpoint.indexOf("://");
+        if (endpoint.startsWith("http") && scheme > 0) {
+            int path = endpoint.indexOf('/', scheme + 3);
+            return path > 0 ? endpoint.substring(0, path) : endpoint;
+        }
+        return ConfigManager.getInstance().getBaseUrl();
+    }
+
+    /**
+     * Check a request may be sent, throwing CircuitBreakerOpenException if the circuit is open
+     * Every permitted request must be followed by onSuccess or onFailure
+     */
+    public void acquirePermission() {
+        if (!enabled) {
+            return;
+        }
+        String transition = null;
+        synchronized (this) {
+            if (state == State.OPEN && System.nanoTime() - openedAtNanos >= currentOpenNanos) {
+                transition = transitionTo(State.HALF_OPEN, "open for " + TimeUnit.NANOSECONDS.toMillis(currentOpenNanos) + "ms");
+            }
+            if (state == State.OPEN || (state == State.HALF_OPEN && probesInFlight + probeSuccesses >= halfOpenProbes)) {
+                rejected++;
+                long retryInMs = state == State.OPEN
+                        ? TimeUnit.NANOSECONDS.toMillis(currentOpenNanos - (System.nanoTime() - openedAtNanos)) : 0;
+                throw new CircuitBreakerOpenException(baseUrl, String.format(
+                        "Circuit breaker for %s is %s after repeated failures; failing fast%s",
+                        baseUrl, state, state == State.OPEN ? " (next probe in " + retryInMs + "ms)" : ""));
+            }
+            if (state == State.HALF_OPEN) {
+                probesInFlight++;
+            }
+        }
+        report(transition);
+    }
+
+    /**
+     * Record a successful call
+     */
+    public void onSuccess() {
+        record(true, null);
+    }
+
+    /**
+     * Record a failed call
+     */
+    public void onFailure(String reason) {
+        record(false, reason);
+    }
+
+    private void record(boolean success, String reason) {
+        if (!enabled) {
+            return;
+        }
+        String transition = null;
+        synchronized (this) {
+            calls++;
+            if (!success) {
+                failures++;
+            }
+            switch (state) {
+                case HALF_OPEN:
+                    probesInFlight = Math.max(0, probesInFlight - 1);
+                    if (!success) {
+                        currentOpenNanos = Math.min(maxOpenNanos, currentOpenNanos * 2);
+                        transition = transitionTo(State.OPEN, "probe failed: " + reason);
+                    } else if (++probeSuccesses >= halfOpenProbes) {
+                        currentOpenNanos = openNanos;
+                        transition = transitionTo(State.CLOSED, probeSuccesses + " probes succeeded");
+                    }
+                    break;
+                case CLOSED:
+                    addToWindow(success);
+                    double failureRate = windowFailures * 100.0 / windowCalls;
+                    if (windowFailures >= failureThreshold && failureRate >= failureRateThreshold) {
+                        transition = transitionTo(State.OPEN, String.format("%d of last %d calls failed (%.0f%%), last: %s",
+                                windowFailures, windowCalls, failureRate, reason));
+                    }
+                    break;
+                case OPEN:
+                default:
+                    // Calls that were already in flight when the circuit opened
+                    break;
+            }
+        }
+        report(transition);
+    }
+
+    private void addToWindow(boolean success) {
+        if (windowCalls == window.length) {
+            if (!window[windowIndex]) {
+                windowFailures--;
+            }
+        } else {
+            windowCalls++;
+        }
+        window[windowIndex] = success;
+        if (!success) {
+            windowFailures++;
+        }
+        windowIndex = (windowIndex + 1) % window.length;
+    }
+
+    /**
+     * Move to a new state (caller holds the lock) and describe the transition
+     */
+    private String transitionTo(State newState, String reason) {
+        String message = String.format("Circuit breaker for %s: %s -> %s (%s)", baseUrl, state, newState, reason);
+        state = newState;
+        transitions++;
+        probesInFlight = 0;
+        probeSuccesses = 0;
+        if (newState == State.OPEN) {
+            openedAtNanos = System.nanoTime();
+        } else if (newState == State.CLOSED) {
+            windowCalls = 0;
+            windowFailures = 0;
+            windowIndex = 0;
+        }
+        return message;
+    }
+
+    private void report(String transition) {
+        if (transition == null) {
+            return;
+        }
+        logger.warn(transition);
+        ExtentReportManager.logWarning(transition);
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * Get statistics for every circuit breaker, keyed by base URL
+     */
+    public static Map<String, String> getAllStatsSummaries() {
+        Map<String, String> summaries = new TreeMap<>();
+        breakers.forEach((url, breaker) -> summaries.put(url, breaker.getStatsSummary()));
+        return summaries;
+    }
+
+    /**
+     * Get circuit breaker statistics formatted for logging and reporting
+     */
+    public synchronized String getStatsSummary() {
+        if (!enabled) {
+            return "disabled";
+        }
+        return String.format("state=%s, calls=%d, failures=%d, rejected=%d, transitions=%d",
+                state, calls, failures, rejected, transitions);
+    }
+}
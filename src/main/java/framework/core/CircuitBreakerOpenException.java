@@ -0,0 +1,17 @@
+package framework.core;
+
+/**
+ * Thrown instead of sending a request while the circuit breaker for its base URL is open
+ */
+public class CircuitBreakerOpenException extends RuntimeException {
+    private final String baseUrl;
+
+    public CircuitBreakerOpenException(String baseUrl, String message) {
+        super(message);
+        this.baseUrl = baseUrl;
+    }
+
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+}
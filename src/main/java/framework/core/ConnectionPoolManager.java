@@ -0,0 +1,232 @@
+package framework.core;
+
+import framework.config.ConfigManager;
+import framework.config.ConfigSnapshot;
+import io.restassured.RestAssured;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.RestAssuredConfig;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.params.ClientPNames;
+import org.apache.http.client.params.CookiePolicy;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.impl.conn.SchemeRegistryFactory;
+import org.apache.http.params.CoreConnectionPNames;
+import org.apache.http.params.HttpConnectionParams;
+import org.apache.http.pool.PoolStats;
+import org.apache.http.protocol.HttpContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Shared, pooled HTTP connection manager used by all ApiClient instances
+ * Keeps connections alive between requests so parallel scenarios reuse TCP/TLS sessions
+ */
+@SuppressWarnings("deprecation")
+public class ConnectionPoolManager {
+    private static final Logger logger = LoggerFactory.getLogger(ConnectionPoolManager.class);
+    private static volatile ConnectionPoolManager instance;
+
+    private final boolean enabled;
+    private final int maxTotal;
+    private final int maxPerRoute;
+    private final long keepAliveTtlMs;
+    private final long idleTimeoutMs;
+    private final long evictionIntervalMs;
+    private final PoolingClientConnectionManager connectionManager;
+    private final ScheduledExecutorService evictor;
+    private final RequestTimeouts defaultTimeouts;
+    private final ConcurrentMap<String, HttpClientConfig> pooledClientConfigs = new ConcurrentHashMap<>();
+
+    private ConnectionPoolManager() {
+        ConfigSnapshot config = ConfigManager.getInstance().getSnapshot();
+        this.enabled = config.getBoolean("http.pool.enabled", true);
+        this.maxTotal = config.getInt("http.pool.max.total", 200);
+        this.maxPerRoute = config.getInt("http.pool.max.per.route", 50);
+        this.keepAliveTtlMs = config.getLong("http.pool.keep.alive.ttl", 60000);
+        this.idleTimeoutMs = config.getLong("http.pool.idle.timeout", 30000);
+        this.evictionIntervalMs = config.getLong("http.pool.eviction.interval", 5000);
+        this.defaultTimeouts = RequestTimeouts.forEndpoint(config, "");
+
+        if (enabled) {
+            this.connectionManager = new PoolingClientConnectionManager(
+                    SchemeRegistryFactory.createDefault(), keepAliveTtlMs, TimeUnit.MILLISECONDS);
+            this.connectionManager.setMaxTotal(maxTotal);
+            this.connectionManager.setDefaultMaxPerRoute(maxPerRoute);
+            this.evictor = startIdleConnectionEvictor();
+            installIntoRestAssured();
+            logger.info("HTTP connection pool initialized - max total: {}, max per route: {}, keep-alive TTL: {}ms",
+                    maxTotal, maxPerRoute, keepAliveTtlMs);
+        } else {
+            this.connectionManager = null;
+            this.evictor = null;
+            installIntoRestAssured();
+            logger.info("HTTP connection pooling disabled");
+        }
+    }
+
+    /**
+     * Get singleton instance of ConnectionPoolManager
+     */
+    public static ConnectionPoolManager getInstance() {
+        ConnectionPoolManager result = instance;
+        if (result == null) {
+            synchronized (ConnectionPoolManager.class) {
+                result = instance;
+                if (result == null) {
+                    result = new ConnectionPoolManager();
+                    instance = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Configure RestAssured to reuse a single pooled HttpClient across all threads, with the
+     * environment's default timeouts
+     */
+    private void installIntoRestAssured() {
+        RestAssured.config = getConfig(defaultTimeouts);
+        logger.info("Default HTTP timeouts: {}", defaultTimeouts);
+    }
+
+    /**
+     * Get RestAssured's current default config with the given connect and socket timeouts applied
+     */
+    public RestAssuredConfig getConfig(RequestTimeouts timeouts) {
+        return withTimeouts(RestAssured.config(), timeouts);
+    }
+
+    /**
+     * Apply connect and socket timeouts to a request's own config, keeping everything else it sets
+     * (SSL, redirects, encoders/decoders, object mapper, HTTP client params)
+     * With pooling the HTTP client is the pooled one for these timeouts; pooled clients are created once
+     * per distinct pair of timeouts and all share the one connection pool
+     */
+    public RestAssuredConfig withTimeouts(RestAssuredConfig base, RequestTimeouts timeouts) {
+        HttpClientConfig current = base.getHttpClientConfig();
+        HttpClientConfig httpClientConfig;
+        if (enabled) {
+            HttpClientConfig pooled = pooledClientConfig(timeouts);
+            // The pooled client carries the timeouts; params of the request's own would override them
+            Map<String, Object> params = new HashMap<>(current.params());
+            params.remove(CoreConnectionPNames.CONNECTION_TIMEOUT);
+            params.remove(CoreConnectionPNames.SO_TIMEOUT);
+            httpClientConfig = params.equals(pooled.params()) ? pooled : pooled.withParams(params);
+        } else {
+            httpClientConfig = current
+                    .setParam(CoreConnectionPNames.CONNECTION_TIMEOUT, (int) timeouts.getConnectMs())
+                    .setParam(CoreConnectionPNames.SO_TIMEOUT, (int) timeouts.getSocketMs());
+        }
+        return base.httpClient(httpClientConfig);
+    }
+
+    private HttpClientConfig pooledClientConfig(RequestTimeouts timeouts) {
+        String key = timeouts.getConnectMs() + "/" + timeouts.getSocketMs();
+        return pooledClientConfigs.computeIfAbsent(key, k -> HttpClientConfig.httpClientConfig()
+                .reuseHttpClientInstance()
+                .httpClientFactory(() -> createHttpClient(timeouts)));
+    }
+
+    /**
+     * Create a pooled HttpClient backing RestAssured
+     * Waiting for a pooled connection counts against the connect timeout. The client is shared by every
+     * scenario, so it keeps no cookie store; cookies travel per request through RestAssured
+     */
+    private DefaultHttpClient createHttpClient(RequestTimeouts timeouts) {
+        DefaultHttpClient httpClient = new DefaultHttpClient(connectionManager);
+        httpClient.setKeepAliveStrategy(createKeepAliveStrategy());
+        httpClient.getParams().setParameter(ClientPNames.COOKIE_POLICY, CookiePolicy.IGNORE_COOKIES);
+        HttpConnectionParams.setConnectionTimeout(httpClient.getParams(), (int) timeouts.getConnectMs());
+        HttpConnectionParams.setSoTimeout(httpClient.getParams(), (int) timeouts.getSocketMs());
+        httpClient.getParams().setLongParameter(ClientPNames.CONN_MANAGER_TIMEOUT, timeouts.getConnectMs());
+        return httpClient;
+    }
+
+    /**
+     * Honour server Keep-Alive headers, capped by the configured TTL
+     */
+    private ConnectionKeepAliveStrategy createKeepAliveStrategy() {
+        return new DefaultConnectionKeepAliveStrategy() {
+            @Override
+            public long getKeepAliveDuration(HttpResponse response, HttpContext context) {
+                long serverKeepAlive = super.getKeepAliveDuration(response, context);
+                if (serverKeepAlive > 0) {
+                    return Math.min(serverKeepAlive, keepAliveTtlMs);
+                }
+                return keepAliveTtlMs;
+            }
+        };
+    }
+
+    /**
+     * Periodically close expired and idle connections
+     */
+    private ScheduledExecutorService startIdleConnectionEvictor() {
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "http-pool-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(() -> {
+            try {
+                connectionManager.closeExpiredConnections();
+                connectionManager.closeIdleConnections(idleTimeoutMs, TimeUnit.MILLISECONDS);
+            } catch (Exception e) {
+                logger.warn("Failed to evict idle HTTP connections", e);
+            }
+        }, evictionIntervalMs, evictionIntervalMs, TimeUnit.MILLISECONDS);
+        return executor;
+    }
+
+    /**
+     * Check if connection pooling is enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Get aggregate pool statistics (leased, pending, available, max)
+     */
+    public PoolStats getPoolStats() {
+        if (!enabled) {
+            return new PoolStats(0, 0, 0, 0);
+        }
+        return connectionManager.getTotalStats();
+    }
+
+    /**
+     * Get pool statistics formatted for logging and reporting
+     */
+    public String getPoolStatsSummary() {
+        if (!enabled) {
+            return "Connection pooling disabled";
+        }
+        PoolStats stats = getPoolStats();
+        return String.format("leased=%d, pending=%d, available=%d, max=%d (max per route=%d)",
+                stats.getLeased(), stats.getPending(), stats.getAvailable(), stats.getMax(), maxPerRoute);
+    }
+
+    /**
+     * Close all pooled connections and stop the evictor
+     */
+    public void shutdown() {
+        if (enabled) {
+            evictor.shutdownNow();
+            connectionManager.shutdown();
+            logger.info("HTTP connection pool shut down");
+        }
+    }
+}
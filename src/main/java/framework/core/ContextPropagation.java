@@ -0,0 +1,124 @@
+package framework.core;
+
+import com.aventstack.extentreports.ExtentTest;
+import framework.reporting.ExtentReportManager;
+import org.slf4j.MDC;
+
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Carries the scenario's thread-bound state onto other threads
+ * Covers TestContext storage, the current Extent test and the logging MDC, so work handed to
+ * async callbacks, worker pools or virtual threads still reports against the owning scenario
+ */
+public final class ContextPropagation {
+
+    private ContextPropagation() {
+    }
+
+    /**
+     * Wrap a task so it runs with the calling thread's scenario context
+     */
+    public static Runnable wrap(Runnable task) {
+        Snapshot snapshot = Snapshot.capture();
+        return () -> {
+            Snapshot previous = snapshot.apply();
+            try {
+                task.run();
+            } finally {
+                previous.restore();
+            }
+        };
+    }
+
+    /**
+     * Wrap a supplier so it runs with the calling thread's scenario context
+     */
+    public static <T> Supplier<T> wrap(Supplier<T> task) {
+        Snapshot snapshot = Snapshot.capture();
+        return () -> {
+            Snapshot previous = snapshot.apply();
+            try {
+                return task.get();
+            } finally {
+                previous.restore();
+            }
+        };
+    }
+
+    /**
+     * Wrap a function (e.g. a CompletableFuture stage) so it runs with the calling thread's scenario context
+     */
+    public static <T, R> Function<T, R> wrap(Function<T, R> task) {
+        Snapshot snapshot = Snapshot.capture();
+        return value -> {
+            Snapshot previous = snapshot.apply();
+            try {
+                return task.apply(value);
+            } finally {
+                previous.restore();
+            }
+        };
+    }
+
+    /**
+     * Wrap a consumer (e.g. an error callback) so it runs with the calling thread's scenario context
+     */
+    public static <T> Consumer<T> wrap(Consumer<T> task) {
+        Snapshot snapshot = Snapshot.capture();
+        return value -> {
+            Snapshot previous = snapshot.apply();
+            try {
+                task.accept(value);
+            } finally {
+                previous.restore();
+            }
+        };
+    }
+
+    /**
+     * Thread-bound state captured from one thread and applied on another
+     */
+    private static final class Snapshot {
+        private final Map<String, Object> storage;
+        private final ExtentTest extentTest;
+        private final Map<String, String> mdc;
+
+        private Snapshot(Map<String, Object> storage, ExtentTest extentTest, Map<String, String> mdc) {
+            this.storage = storage;
+            this.extentTest = extentTest;
+            this.mdc = mdc;
+        }
+
+        static Snapshot capture() {
+            return new Snapshot(TestContext.currentStorage(), ExtentReportManager.getCurrentTest(),
+                    MDC.getCopyOfContextMap());
+        }
+
+        /**
+         * Apply this snapshot to the current thread, returning the state it replaced
+         */
+        Snapshot apply() {
+            Snapshot previous = capture();
+            bind();
+            return previous;
+        }
+
+        void restore() {
+            bind();
+        }
+
+        private void bind() {
+            TestContext.attachStorage(storage);
+            ExtentReportManager.setCurrentTest(extentTest);
+            if (mdc != null) {
+                MDC.setContextMap(mdc);
+            } else {
+                MDC.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package framework.core;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.fge.jsonschema.core.exceptions.ProcessingException;
+import com.github.fge.jsonschema.core.report.ProcessingReport;
+import com.github.fge.jsonschema.main.JsonSchema;
+import com.github.fge.jsonschema.main.JsonSchemaFactory;
+import framework.config.ConfigManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Thread-safe cache of compiled JSON schemas
+ * Classpath schemas are keyed by resource path and inline schemas by the SHA-256 of their text,
+ * so each schema is loaded and compiled once per run. Compiled schemas are immutable and shared
+ */
+public final class JsonSchemaCache {
+    private static final Logger logger = LoggerFactory.getLogger(JsonSchemaCache.class);
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final JsonSchemaFactory schemaFactory = JsonSchemaFactory.byDefault();
+    private static final ConcurrentMap<String, JsonSchema> schemas = new ConcurrentHashMap<>();
+
+    private static final AtomicLong hits = new AtomicLong();
+    private static final AtomicLong misses = new AtomicLong();
+    private static final AtomicLong compileNanos = new AtomicLong();
+
+    private JsonSchemaCache() {
+    }
+
+    /**
+     * Get the compiled schema for a classpath resource, loading it on first use
+     * Relative $ref references are resolved against the schema's classpath location
+     */
+    public static JsonSchema fromClasspath(String schemaPath) {
+        return get("path:" + schemaPath, () -> {
+            if (JsonSchemaCache.class.getClassLoader().getResource(schemaPath) == null) {
+                throw new IllegalStateException("Schema file not found: " + schemaPath);
+            }
+            return schemaFactory.getJsonSchema("resource:/" + schemaPath);
+        });
+    }
+
+    /**
+     * Get the compiled schema for inline schema text, keyed by content hash
+     */
+    public static JsonSchema fromString(String jsonSchema) {
+        return get("sha256:" + sha256(jsonSchema), () -> schemaFactory.getJsonSchema(objectMapper.readTree(jsonSchema)));
+    }
+
+    private static JsonSchema get(String key, SchemaLoader loader) {
+        JsonSchema cached = schemas.get(key);
+        if (cached != null) {
+            hits.incrementAndGet();
+            return cached;
+        }
+        return schemas.computeIfAbsent(key, k -> {
+            misses.incrementAndGet();
+            long start = System.nanoTime();
+            try {
+                JsonSchema schema = loader.load();
+                logger.debug("JSON schema compiled: {}", k);
+                return schema;
+            } catch (IllegalStateException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new IllegalStateException("Failed to compile JSON schema: " + k, e);
+            } finally {
+                compileNanos.addAndGet(System.nanoTime() - start);
+            }
+        });
+    }
+
+    /**
+     * Compile the schemas listed in validation.schema.preload (comma separated classpath paths)
+     */
+    public static void preload() {
+        String configured = ConfigManager.getInstance().getSnapshot().getString("validation.schema.preload", "");
+        int loaded = 0;
+        for (String schemaPath : configured.split(",")) {
+            if (schemaPath.trim().isEmpty()) {
+                continue;
+            }
+            try {
+                fromClasspath(schemaPath.trim());
+                loaded++;
+            } catch (Exception e) {
+                logger.warn("Failed to preload JSON schema: {}", schemaPath.trim(), e);
+            }
+        }
+        if (loaded > 0) {
+            logger.info("Preloaded {} JSON schemas", loaded);
+        }
+    }
+
+    /**
+     * Validate a parsed document against a compiled schema, returning the report text on failure
+     */
+    static String validate(JsonSchema schema, JsonNode instance) {
+        try {
+            ProcessingReport report = schema.validate(instance);
+            return report.isSuccess() ? null : report.toString();
+        } catch (ProcessingException e) {
+            return e.getMessage();
+        }
+    }
+
+    public static long getHits() {
+        return hits.get();
+    }
+
+    public static long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * Estimated compile time saved by cache hits, based on the average compile time
+     */
+    public static long getCompileTimeSavedMs() {
+        long compiled = misses.get();
+        if (compiled == 0) {
+            return 0;
+        }
+        return hits.get() * (compileNanos.get() / compiled) / 1_000_000;
+    }
+
+    /**
+     * Get cache statistics formatted for logging and reporting
+     */
+    public static String getStatsSummary() {
+        return String.format("schemas=%d, hits=%d, misses=%d, compile time=%dms, compile time saved=%dms",
+                schemas.size(), hits.get(), misses.get(), compileNanos.get() / 1_000_000, getCompileTimeSavedMs());
+    }
+
+    /**
+     * Remove all compiled schemas and reset statistics
+     */
+    public static void clear() {
+        schemas.clear();
+        hits.set(0);
+        misses.set(0);
+        compileNanos.set(0);
+        logger.debug("JSON schema cache cleared");
+    }
+
+    private static String sha256(String text) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(text.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface SchemaLoader {
+        JsonSchema load() throws Exception;
+    }
+}
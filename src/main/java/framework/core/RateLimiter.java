@@ -0,0 +1,184 @@
+package framework.core;
+
+import framework.config.ConfigManager;
+import framework.config.ConfigSnapshot;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Client-side rate limiting so parallel runs stay under the server's limits
+ * A global token bucket (rate.limit.requests.per.minute, rate.limit.burst.capacity or rate.limit.burst.size)
+ * and, when rate.limit.endpoint.requests.per.minute is set, one bucket per endpoint template. A request
+ * that would have to wait longer than rate.limit.window.size seconds fails instead of queueing
+ */
+public final class RateLimiter {
+    private static final Logger logger = LoggerFactory.getLogger(RateLimiter.class);
+    private static volatile RateLimiter instance;
+
+    private final boolean enabled;
+    private final Bucket global;
+    private final int endpointRequestsPerMinute;
+    private final int endpointBurst;
+    private final long maxWaitNanos;
+    private final ConcurrentMap<String, Bucket> endpointBuckets = new ConcurrentHashMap<>();
+
+    private final LongAdder permits = new LongAdder();
+    private final LongAdder throttled = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+    private final AtomicLong maxWaitObservedNanos = new AtomicLong();
+
+    private RateLimiter() {
+        ConfigSnapshot config = ConfigManager.getInstance().getSnapshot();
+        this.enabled = config.getBoolean("rate.limit.enabled", false);
+        int requestsPerMinute = config.getInt("rate.limit.requests.per.minute", 1000);
+        int burst = config.getInt("rate.limit.burst.capacity", config.getInt("rate.limit.burst.size", 1));
+        this.global = new Bucket(requestsPerMinute, burst);
+        this.endpointRequestsPerMinute = config.getInt("rate.limit.endpoint.requests.per.minute", 0);
+        this.endpointBurst = config.getInt("rate.limit.endpoint.burst.capacity", 1);
+        this.maxWaitNanos = TimeUnit.SECONDS.toNanos(config.getLong("rate.limit.window.size", 60));
+
+        if (enabled) {
+            logger.info("Rate limiter initialized - {} requests/min (burst {}), per endpoint: {}, max wait: {}s",
+                    requestsPerMinute, burst,
+                    endpointRequestsPerMinute > 0 ? endpointRequestsPerMinute + " requests/min" : "unlimited",
+                    TimeUnit.NANOSECONDS.toSeconds(maxWaitNanos));
+        } else {
+            logger.info("Rate limiting disabled");
+        }
+    }
+
+    /**
+     * Get singleton instance of RateLimiter
+     */
+    public static RateLimiter getInstance() {
+        RateLimiter result = instance;
+        if (result == null) {
+            synchronized (RateLimiter.class) {
+                result = instance;
+                if (result == null) {
+                    result = new RateLimiter();
+                    instance = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Drop the current limiter so the next request rebuilds it from configuration
+     */
+    public static synchronized void reset() {
+        instance = null;
+    }
+
+    /**
+     * Block until a request to the endpoint template may be sent
+     * Returns the time spent waiting in nanoseconds
+     */
+    public long acquire(String endpoint) {
+        long wait = reserve(endpoint);
+        if (wait > 0) {
+            long deadline = System.nanoTime() + wait;
+            long remaining = wait;
+            while (remaining > 0) {
+                LockSupport.parkNanos(this, remaining);
+                if (Thread.interrupted()) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while waiting for rate limit permit for " + endpoint);
+                }
+                remaining = deadline - System.nanoTime();
+            }
+        }
+        return wait;
+    }
+
+    /**
+     * Reserve a permit without blocking and return how long the caller must wait before sending
+     * Used by the async path, which schedules the send instead of parking a thread
+     */
+    public long reserve(String endpoint) {
+        if (!enabled) {
+            return 0;
+        }
+        long wait = global.reserve(maxWaitNanos, endpoint);
+        if (endpointRequestsPerMinute > 0) {
+            Bucket bucket = endpointBuckets.computeIfAbsent(stripQuery(endpoint),
+                    key -> new Bucket(endpointRequestsPerMinute, endpointBurst));
+            wait = Math.max(wait, bucket.reserve(maxWaitNanos, endpoint));
+        }
+
+        permits.increment();
+        if (wait > 0) {
+            throttled.increment();
+            waitNanos.add(wait);
+            maxWaitObservedNanos.accumulateAndGet(wait, Math::max);
+            logger.debug("Rate limited request to {} for {}ms", endpoint, TimeUnit.NANOSECONDS.toMillis(wait));
+        }
+        return wait;
+    }
+
+    private static String stripQuery(String endpoint) {
+        int query = endpoint.indexOf('?');
+        return query >= 0 ? endpoint.substring(0, query) : endpoint;
+    }
+
+    /**
+     * Get rate limiter statistics formatted for logging and reporting
+     */
+    public String getStatsSummary() {
+        if (!enabled) {
+            return "disabled";
+        }
+        long total = permits.sum();
+        long throttledCount = throttled.sum();
+        double totalWaitMs = waitNanos.sum() / 1_000_000.0;
+        return String.format("permits=%d, throttled=%d (%.1f%%), total wait=%.0fms, avg wait when throttled=%.2fms, "
+                        + "max wait=%.2fms, endpoint buckets=%d",
+                total, throttledCount, total == 0 ? 0.0 : throttledCount * 100.0 / total, totalWaitMs,
+                throttledCount == 0 ? 0.0 : totalWaitMs / throttledCount,
+                maxWaitObservedNanos.get() / 1_000_000.0, endpointBuckets.size());
+    }
+
+    /**
+     * Lock-free token bucket in its GCRA form: a single theoretical arrival time advanced by one
+     * emission interval per permit, with up to burst permits available immediately
+     */
+    private static final class Bucket {
+        private final long intervalNanos;
+        private final long burstToleranceNanos;
+        private final AtomicLong theoreticalArrival;
+
+        Bucket(int requestsPerMinute, int burst) {
+            if (requestsPerMinute <= 0) {
+                throw new IllegalArgumentException("Rate limit must be positive: " + requestsPerMinute);
+            }
+            this.intervalNanos = TimeUnit.MINUTES.toNanos(1) / requestsPerMinute;
+            this.burstToleranceNanos = intervalNanos * Math.max(1, burst);
+            this.theoreticalArrival = new AtomicLong(System.nanoTime());
+        }
+
+        long reserve(long maxWaitNanos, String endpoint) {
+            while (true) {
+                long now = System.nanoTime();
+                long current = theoreticalArrival.get();
+                long next = Math.max(current, now) + intervalNanos;
+                long wait = next - burstToleranceNanos - now;
+                if (wait > maxWaitNanos) {
+                    throw new IllegalStateException(String.format(
+                            "Rate limit wait of %dms for %s exceeds rate.limit.window.size",
+                            TimeUnit.NANOSECONDS.toMillis(wait), endpoint));
+                }
+                if (theoreticalArrival.compareAndSet(current, next)) {
+                    return Math.max(0, wait);
+                }
+            }
+        }
+    }
+}
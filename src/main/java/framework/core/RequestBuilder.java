@@ -1,6 +1,7 @@
 package framework.core;
 
 import io.restassured.http.ContentType;
+import io.restassured.http.Method;
 import io.restassured.response.Response;
 import io.restassured.specification.RequestSpecification;
 import org.slf4j.Logger;
@@ -141,11 +142,6 @@ public class RequestBuilder {
             spec = spec.headers(headers);
         }
 
-        // Add path parameters
-        if (!pathParams.isEmpty()) {
-            spec = spec.pathParams(pathParams);
-        }
-
         // Add query parameters
         if (!queryParams.isEmpty()) {
             spec = spec.queryParams(queryParams);
@@ -159,6 +155,13 @@ public class RequestBuilder {
         return spec;
     }
 
+    /**
+     * Send through the ApiClient, expanding path parameters with the endpoint's pre-compiled template
+     */
+    private Response send(Method method, RequestSpecification spec) {
+        return apiClient.send(method, endpoint, apiClient.expandPathParams(endpoint, pathParams, spec), spec);
+    }
+
     /**
      * Execute GET request
      */
@@ -166,7 +169,7 @@ public class RequestBuilder {
         validateEndpoint();
         RequestSpecification spec = buildRequest();
         logger.info("Executing GET request to: {}", endpoint);
-        return spec.get(endpoint);
+        return send(Method.GET, spec);
     }
 
     /**
@@ -175,8 +178,9 @@ public class RequestBuilder {
     public Response post() {
         validateEndpoint();
         RequestSpecification spec = buildRequest();
-        logger.info("Executing POST request to: {} with body: {}", endpoint, requestBody);
-        return spec.post(endpoint);
+        logger.info("Executing POST request to: {}", endpoint);
+        logger.debug("POST request body: {}", requestBody);
+        return send(Method.POST, spec);
     }
 
     /**
@@ -185,8 +189,9 @@ public class RequestBuilder {
     public Response put() {
         validateEndpoint();
         RequestSpecification spec = buildRequest();
-        logger.info("Executing PUT request to: {} with body: {}", endpoint, requestBody);
-        return spec.put(endpoint);
+        logger.info("Executing PUT request to: {}", endpoint);
+        logger.debug("PUT request body: {}", requestBody);
+        return send(Method.PUT, spec);
     }
 
     /**
@@ -196,7 +201,7 @@ public class RequestBuilder {
         validateEndpoint();
         RequestSpecification spec = buildRequest();
         logger.info("Executing DELETE request to: {}", endpoint);
-        return spec.delete(endpoint);
+        return send(Method.DELETE, spec);
     }
 
     /**
@@ -205,8 +210,9 @@ public class RequestBuilder {
     public Response patch() {
         validateEndpoint();
         RequestSpecification spec = buildRequest();
-        logger.info("Executing PATCH request to: {} with body: {}", endpoint, requestBody);
-        return spec.patch(endpoint);
+        logger.info("Executing PATCH request to: {}", endpoint);
+        logger.debug("PATCH request body: {}", requestBody);
+        return send(Method.PATCH, spec);
     }
 
     /**
@@ -216,7 +222,7 @@ public class RequestBuilder {
         validateEndpoint();
         RequestSpecification spec = buildRequest();
         logger.info("Executing HEAD request to: {}", endpoint);
-        return spec.head(endpoint);
+        return send(Method.HEAD, spec);
     }
 
     /**
@@ -226,7 +232,31 @@ public class RequestBuilder {
         validateEndpoint();
         RequestSpecification spec = buildRequest();
         logger.info("Executing OPTIONS request to: {}", endpoint);
-        return spec.options(endpoint);
+        return send(Method.OPTIONS, spec);
+    }
+
+    /**
+     * Execute the request with the given HTTP method
+     */
+    public Response execute(Method method) {
+        switch (method) {
+            case GET:
+                return get();
+            case POST:
+                return post();
+            case PUT:
+                return put();
+            case DELETE:
+                return delete();
+            case PATCH:
+                return patch();
+            case HEAD:
+                return head();
+            case OPTIONS:
+                return options();
+            default:
+                throw new IllegalArgumentException("Unsupported HTTP method: " + method);
+        }
     }
 
     /**
@@ -0,0 +1,112 @@
+package framework.core;
+
+import framework.config.ConfigSnapshot;
+import org.apache.http.conn.ConnectTimeoutException;
+
+import java.net.SocketTimeoutException;
+import java.net.http.HttpConnectTimeoutException;
+import java.net.http.HttpTimeoutException;
+
+/**
+ * Connect, socket-read and total timeouts for one endpoint
+ * Resolved from api.timeout.connection / api.timeout.socket / api.timeout.total, or <group>.api.timeout.*
+ * for endpoints in an endpoint.group.<group>; each defaults to the environment's timeout
+ * The total covers the whole call including retries; each attempt's connect and socket timeouts are
+ * capped at what is left of it (see withinRemaining)
+ */
+public final class RequestTimeouts {
+    /** Granularity of capped timeouts, which keeps the number of distinct pooled clients small */
+    private static final long CAP_STEP_MS = 100;
+
+    private final long connectMs;
+    private final long socketMs;
+    private final long totalMs;
+    private final boolean connectCapped;
+    private final boolean socketCapped;
+
+    private RequestTimeouts(long connectMs, long socketMs, long totalMs) {
+        this(connectMs, socketMs, totalMs, false, false);
+    }
+
+    private RequestTimeouts(long connectMs, long socketMs, long totalMs, boolean connectCapped, boolean socketCapped) {
+        this.connectMs = connectMs;
+        this.socketMs = socketMs;
+        this.totalMs = totalMs;
+        this.connectCapped = connectCapped;
+        this.socketCapped = socketCapped;
+    }
+
+    /**
+     * Resolve the timeouts for an endpoint template or URL
+     */
+    public static RequestTimeouts forEndpoint(ConfigSnapshot config, String endpoint) {
+        long defaultMs = config.getTimeout().toMillis();
+        return new RequestTimeouts(
+                config.getEndpointLong(endpoint, "timeout.connection", defaultMs),
+                config.getEndpointLong(endpoint, "timeout.socket", defaultMs),
+                config.getEndpointLong(endpoint, "timeout.total", defaultMs));
+    }
+
+    public long getConnectMs() {
+        return connectMs;
+    }
+
+    public long getSocketMs() {
+        return socketMs;
+    }
+
+    public long getTotalMs() {
+        return totalMs;
+    }
+
+    /**
+     * Timeouts for an attempt that has remainingMs of the total timeout left
+     * Connect and socket timeouts are capped at the remaining time, rounded up to 100ms; a timeout that
+     * hits a cap is reported as a TOTAL timeout. The socket timeout bounds each wait for data, so a
+     * response that keeps trickling in can still run past the total
+     */
+    public RequestTimeouts withinRemaining(long remainingMs) {
+        long capMs = Math.max(CAP_STEP_MS, (remainingMs + CAP_STEP_MS - 1) / CAP_STEP_MS * CAP_STEP_MS);
+        if (capMs >= connectMs && capMs >= socketMs) {
+            return this;
+        }
+        return new RequestTimeouts(Math.min(connectMs, capMs), Math.min(socketMs, capMs), totalMs,
+                capMs < connectMs, capMs < socketMs);
+    }
+
+    /**
+     * Convert a send failure into an ApiTimeoutException if it was caused by a timeout, otherwise return null
+     */
+    ApiTimeoutException toTimeoutException(Throwable error, String method, String endpoint) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ApiTimeoutException) {
+                return (ApiTimeoutException) cause;
+            }
+            if (cause instanceof ConnectTimeoutException || cause instanceof HttpConnectTimeoutException
+                    || (cause instanceof SocketTimeoutException && String.valueOf(cause.getMessage()).contains("connect"))) {
+                return connectCapped ? totalTimeout(method, endpoint, error)
+                        : new ApiTimeoutException(ApiTimeoutException.Phase.CONNECT, method, endpoint, connectMs, error);
+            }
+            if (cause instanceof HttpTimeoutException) {
+                return totalTimeout(method, endpoint, error);
+            }
+            if (cause instanceof SocketTimeoutException) {
+                return socketCapped ? totalTimeout(method, endpoint, error)
+                        : new ApiTimeoutException(ApiTimeoutException.Phase.READ, method, endpoint, socketMs, error);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The exception for a call that ran out of its total timeout
+     */
+    ApiTimeoutException totalTimeout(String method, String endpoint, Throwable cause) {
+        return new ApiTimeoutException(ApiTimeoutException.Phase.TOTAL, method, endpoint, totalMs, cause);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("connect=%dms, socket=%dms, total=%dms", connectMs, socketMs, totalMs);
+    }
+}
@@ -1,28 +1,163 @@
 package framework.core;
 
-import io.restassured.module.jsv.JsonSchemaValidator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import framework.config.ConfigManager;
+import framework.utils.JsonPathCache;
+import io.restassured.path.json.JsonPath;
 import io.restassured.response.Response;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.InputStream;
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Predicate;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
 /**
  * Comprehensive response validation utilities
  * Provides various methods to validate API responses
+ * The body text and parsed JSON document are built lazily once and shared by all assertions
+ * and extractors on this validator
  */
 public class ResponseValidator {
     private static final Logger logger = LoggerFactory.getLogger(ResponseValidator.class);
+    private static final ObjectMapper objectMapper = new ObjectMapper();
     private final Response response;
+    private String body;
+    private JsonPath document;
+    private Object root;
+    private boolean rootParsed;
+    private JsonNode jsonTree;
+    private boolean streaming;
+    private StreamingJsonValidator streamingValidator;
 
     public ResponseValidator(Response response) {
         this.response = response;
     }
 
+    /**
+     * Get the response body, materialised once
+     */
+    public String getBody() {
+        if (body == null) {
+            body = response.getBody().asString();
+        }
+        return body;
+    }
+
+    /**
+     * Get the parsed JSON document, parsed once from the cached body
+     */
+    public JsonPath getJsonPath() {
+        if (document == null) {
+            document = new JsonPath(getBody());
+        }
+        return document;
+    }
+
+    /**
+     * Read a value at a JSON path
+     * Simple paths are compiled once through JsonPathCache and evaluated against the parsed tree;
+     * anything else is evaluated with GPath
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T read(String jsonPath) {
+        JsonPathCache.CompiledPath compiled = JsonPathCache.compile(jsonPath);
+        if (compiled.isCompilable()) {
+            Object value = compiled.evaluate(getRoot());
+            if (value != JsonPathCache.NOT_EVALUABLE) {
+                return (T) value;
+            }
+        }
+        return getJsonPath().get(jsonPath);
+    }
+
+    /**
+     * Read a value at a JSON path, converting it to the requested type when it is not already an instance
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T read(String jsonPath, Class<T> type) {
+        Object value = read(jsonPath);
+        if (value == null || type.isInstance(value)) {
+            return (T) value;
+        }
+        return objectMapper.convertValue(value, type);
+    }
+
+    /**
+     * Get the body as a Jackson tree, parsed once (used for schema validation)
+     */
+    private JsonNode getJsonTree() {
+        if (jsonTree == null) {
+            try {
+                jsonTree = objectMapper.readTree(getBody());
+            } catch (IOException e) {
+                throw new AssertionError("Response body is not valid JSON: " + e.getMessage(), e);
+            }
+        }
+        return jsonTree;
+    }
+
+    /**
+     * Switch array validations to streaming mode, which never materialises the body or the array
+     * Streaming accepts only plain dotted paths. It is also used automatically when Content-Length exceeds
+     * validation.streaming.threshold.bytes, but only for such paths; GPath expressions keep using the tree
+     */
+    public ResponseValidator streaming() {
+        this.streaming = true;
+        return this;
+    }
+
+    /**
+     * Get the streaming validator for this response
+     */
+    public StreamingJsonValidator getStreamingValidator() {
+        if (streamingValidator == null) {
+            streamingValidator = new StreamingJsonValidator(response);
+        }
+        return streamingValidator;
+    }
+
+    private boolean useStreaming(String jsonPath) {
+        if (streaming) {
+            return true;
+        }
+        if (!StreamingJsonValidator.isStreamable(jsonPath)) {
+            return false;
+        }
+        if (body != null || document != null) {
+            return false;
+        }
+        String contentLength = response.getHeader("Content-Length");
+        long threshold = ConfigManager.getInstance().getSnapshot()
+                .getLong("validation.streaming.threshold.bytes", 50L * 1024 * 1024);
+        return contentLength != null && contentLength.matches("\\d+") && Long.parseLong(contentLength) > threshold;
+    }
+
+    /**
+     * Automatic streaming met a path only GPath can evaluate; rethrow if streaming was requested explicitly
+     */
+    private void fallBackFromStreaming(StreamingJsonValidator.UnsupportedPathException e) {
+        if (streaming) {
+            throw e;
+        }
+        logger.debug("{}; validating against the parsed document instead", e.getMessage());
+    }
+
+    /**
+     * Get the root of the parsed document, resolved once
+     */
+    private Object getRoot() {
+        if (!rootParsed) {
+            root = getJsonPath().get("$");
+            rootParsed = true;
+        }
+        return root;
+    }
+
     /**
      * Validate status code
      */
@@ -66,7 +201,7 @@ public class ResponseValidator {
      * Validate response body contains expected text
      */
     public ResponseValidator bodyContains(String expectedText) {
-        String responseBody = response.getBody().asString();
+        String responseBody = getBody();
         assertThat(responseBody)
                 .as("Response body should contain: " + expectedText)
                 .contains(expectedText);
@@ -79,7 +214,7 @@ public class ResponseValidator {
      * Validate response body does not contain text
      */
     public ResponseValidator bodyNotContains(String unexpectedText) {
-        String responseBody = response.getBody().asString();
+        String responseBody = getBody();
         assertThat(responseBody)
                 .as("Response body should not contain: " + unexpectedText)
                 .doesNotContain(unexpectedText);
@@ -92,7 +227,7 @@ public class ResponseValidator {
      * Validate response body is empty
      */
     public ResponseValidator bodyIsEmpty() {
-        String responseBody = response.getBody().asString();
+        String responseBody = getBody();
         assertThat(responseBody)
                 .as("Response body should be empty")
                 .isEmpty();
@@ -105,7 +240,7 @@ public class ResponseValidator {
      * Validate response body is not empty
      */
     public ResponseValidator bodyIsNotEmpty() {
-        String responseBody = response.getBody().asString();
+        String responseBody = getBody();
         assertThat(responseBody)
                 .as("Response body should not be empty")
                 .isNotEmpty();
@@ -118,7 +253,7 @@ public class ResponseValidator {
      * Validate JSON path exists
      */
     public ResponseValidator jsonPathExists(String jsonPath) {
-        Object value = response.jsonPath().get(jsonPath);
+        Object value = read(jsonPath);
         assertThat(value)
                 .as("JSON path should exist: " + jsonPath)
                 .isNotNull();
@@ -131,7 +266,7 @@ public class ResponseValidator {
      * Validate JSON path value equals expected
      */
     public ResponseValidator jsonPathEquals(String jsonPath, Object expectedValue) {
-        Object actualValue = response.jsonPath().get(jsonPath);
+        Object actualValue = read(jsonPath);
         assertThat(actualValue)
                 .as("JSON path value validation failed for: " + jsonPath)
                 .isEqualTo(expectedValue);
@@ -144,7 +279,8 @@ public class ResponseValidator {
      * Validate JSON path value matches pattern
      */
     public ResponseValidator jsonPathMatches(String jsonPath, String regex) {
-        String actualValue = response.jsonPath().getString(jsonPath);
+        Object value = read(jsonPath);
+        String actualValue = value != null ? String.valueOf(value) : null;
         assertThat(actualValue)
                 .as("JSON path should match pattern: " + regex)
                 .matches(regex);
@@ -157,7 +293,15 @@ public class ResponseValidator {
      * Validate JSON array size
      */
     public ResponseValidator jsonArraySize(String jsonPath, int expectedSize) {
-        List<Object> array = response.jsonPath().getList(jsonPath);
+        if (useStreaming(jsonPath)) {
+            try {
+                getStreamingValidator().arraySize(jsonPath, expectedSize);
+                return this;
+            } catch (StreamingJsonValidator.UnsupportedPathException e) {
+                fallBackFromStreaming(e);
+            }
+        }
+        List<Object> array = read(jsonPath);
         assertThat(array)
                 .as("JSON array size validation failed for: " + jsonPath)
                 .hasSize(expectedSize);
@@ -170,7 +314,15 @@ public class ResponseValidator {
      * Validate JSON array is not empty
      */
     public ResponseValidator jsonArrayNotEmpty(String jsonPath) {
-        List<Object> array = response.jsonPath().getList(jsonPath);
+        if (useStreaming(jsonPath)) {
+            try {
+                getStreamingValidator().arrayNotEmpty(jsonPath);
+                return this;
+            } catch (StreamingJsonValidator.UnsupportedPathException e) {
+                fallBackFromStreaming(e);
+            }
+        }
+        List<Object> array = read(jsonPath);
         assertThat(array)
                 .as("JSON array should not be empty: " + jsonPath)
                 .isNotEmpty();
@@ -179,6 +331,38 @@ public class ResponseValidator {
         return this;
     }
 
+    /**
+     * Validate every element of a JSON array matches the predicate (streamed one element at a time)
+     */
+    public ResponseValidator jsonArrayAllMatch(String jsonPath, Predicate<JsonNode> predicate, String description) {
+        getStreamingValidator().allElementsMatch(jsonPath, predicate, description);
+        return this;
+    }
+
+    /**
+     * Validate at least one element of a JSON array matches the predicate (streamed)
+     */
+    public ResponseValidator jsonArrayAnyMatch(String jsonPath, Predicate<JsonNode> predicate, String description) {
+        getStreamingValidator().anyElementMatches(jsonPath, predicate, description);
+        return this;
+    }
+
+    /**
+     * Validate every element of a JSON array has the field (streamed)
+     */
+    public ResponseValidator jsonArrayEachHasField(String jsonPath, String fieldPath) {
+        getStreamingValidator().eachElementHasField(jsonPath, fieldPath);
+        return this;
+    }
+
+    /**
+     * Validate every element of a JSON array has the expected field value (streamed)
+     */
+    public ResponseValidator jsonArrayEachFieldEquals(String jsonPath, String fieldPath, Object expectedValue) {
+        getStreamingValidator().eachElementFieldEquals(jsonPath, fieldPath, expectedValue);
+        return this;
+    }
+
     /**
      * Validate header exists
      */
@@ -220,14 +404,17 @@ public class ResponseValidator {
 
     /**
      * Validate JSON schema
+     * Schemas are compiled once per run through JsonSchemaCache
      */
     public ResponseValidator jsonSchema(String schemaPath) {
-        InputStream schemaStream = this.getClass().getClassLoader().getResourceAsStream(schemaPath);
-        assertThat(schemaStream)
+        assertThat(this.getClass().getClassLoader().getResource(schemaPath))
                 .as("Schema file not found: " + schemaPath)
                 .isNotNull();
-        
-        response.then().assertThat().body(JsonSchemaValidator.matchesJsonSchema(schemaStream));
+
+        String errors = JsonSchemaCache.validate(JsonSchemaCache.fromClasspath(schemaPath), getJsonTree());
+        assertThat(errors)
+                .as("JSON schema validation failed for: " + schemaPath)
+                .isNull();
         logger.info("JSON schema validation passed: {}", schemaPath);
         return this;
     }
@@ -236,7 +423,10 @@ public class ResponseValidator {
      * Validate JSON schema from string
      */
     public ResponseValidator jsonSchemaString(String jsonSchema) {
-        response.then().assertThat().body(JsonSchemaValidator.matchesJsonSchema(jsonSchema));
+        String errors = JsonSchemaCache.validate(JsonSchemaCache.fromString(jsonSchema), getJsonTree());
+        assertThat(errors)
+                .as("JSON schema validation failed")
+                .isNull();
         logger.info("JSON schema validation passed from string");
         return this;
     }
@@ -257,7 +447,7 @@ public class ResponseValidator {
         logger.info("Response Status: {}", response.getStatusCode());
         logger.info("Response Time: {}ms", response.getTime());
         logger.info("Response Headers: {}", response.getHeaders());
-        logger.info("Response Body: {}", response.getBody().asString());
+        logger.info("Response Body: {}", getBody());
         return this;
     }
 
@@ -272,7 +462,16 @@ public class ResponseValidator {
      * Extract value from JSON path
      */
     public <T> T extractValue(String jsonPath, Class<T> type) {
-        T value = response.jsonPath().getObject(jsonPath, type);
+        T value = read(jsonPath, type);
+        logger.debug("Extracted value from {}: {}", jsonPath, value);
+        return value;
+    }
+
+    /**
+     * Extract raw value from JSON path
+     */
+    public <T> T extract(String jsonPath) {
+        T value = read(jsonPath);
         logger.debug("Extracted value from {}: {}", jsonPath, value);
         return value;
     }
@@ -281,7 +480,8 @@ public class ResponseValidator {
      * Extract string value from JSON path
      */
     public String extractString(String jsonPath) {
-        String value = response.jsonPath().getString(jsonPath);
+        Object raw = read(jsonPath);
+        String value = raw != null ? String.valueOf(raw) : null;
         logger.debug("Extracted string from {}: {}", jsonPath, value);
         return value;
     }
@@ -290,7 +490,7 @@ public class ResponseValidator {
      * Extract integer value from JSON path
      */
     public Integer extractInteger(String jsonPath) {
-        Integer value = response.jsonPath().getInt(jsonPath);
+        Integer value = read(jsonPath, Integer.class);
         logger.debug("Extracted integer from {}: {}", jsonPath, value);
         return value;
     }
@@ -299,7 +499,7 @@ public class ResponseValidator {
      * Extract list from JSON path
      */
     public <T> List<T> extractList(String jsonPath) {
-        List<T> value = response.jsonPath().getList(jsonPath);
+        List<T> value = read(jsonPath);
         logger.debug("Extracted list from {}: {}", jsonPath, value);
         return value;
     }
@@ -308,7 +508,7 @@ public class ResponseValidator {
      * Extract map from JSON path
      */
     public Map<String, Object> extractMap(String jsonPath) {
-        Map<String, Object> value = response.jsonPath().getMap(jsonPath);
+        Map<String, Object> value = read(jsonPath);
         logger.debug("Extracted map from {}: {}", jsonPath, value);
         return value;
     }
@@ -0,0 +1,316 @@
+package framework.core;
+
+import framework.config.ConfigManager;
+import framework.config.ConfigSnapshot;
+import framework.reporting.ExtentReportManager;
+import io.restassured.response.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Retries failed sends with exponential backoff and full jitter
+ * Attempts and base delay come from api.retry.attempts / api.retry.delay, or <group>.api.retry.* for
+ * endpoints in an endpoint.group.<group>. Only idempotent methods are retried unless a POST/PATCH carries
+ * an Idempotency-Key header. Retry-After is honoured, and a shared retry budget caps retries to a
+ * fraction of requests so retries cannot amplify an overload
+ */
+public final class RetryPolicy {
+    private static final Logger logger = LoggerFactory.getLogger(RetryPolicy.class);
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    private static final Set<String> IDEMPOTENT_METHODS =
+            Set.of("GET", "HEAD", "OPTIONS", "PUT", "DELETE", "TRACE");
+    private static final ConcurrentMap<String, Set<Integer>> parsedStatusCodes = new ConcurrentHashMap<>();
+    private static volatile RetryPolicy instance;
+
+    private final double budgetRatio;
+    private final long budgetReserveMillis;
+    /** Retry budget balance in thousandths of a retry */
+    private final AtomicLong budgetMillis;
+
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder retryAfterHonoured = new LongAdder();
+    private final LongAdder budgetExhausted = new LongAdder();
+    private final LongAdder givenUp = new LongAdder();
+
+    private RetryPolicy() {
+        this(ConfigManager.getInstance().getSnapshot().getDouble("retry.budget.ratio", 0.2),
+                ConfigManager.getInstance().getSnapshot().getLong("retry.budget.reserve", 10));
+    }
+
+    /**
+     * Create a policy with its own retry budget (the shared instance reads retry.budget.*)
+     */
+    RetryPolicy(double budgetRatio, long budgetReserve) {
+        this.budgetRatio = budgetRatio;
+        this.budgetReserveMillis = budgetReserve * 1000;
+        this.budgetMillis = new AtomicLong(budgetReserveMillis);
+        logger.info("Retry policy initialized - budget ratio: {}, reserve: {} retries",
+                budgetRatio, budgetReserveMillis / 1000);
+    }
+
+    /**
+     * Get singleton instance of RetryPolicy
+     */
+    public static RetryPolicy getInstance() {
+        RetryPolicy result = instance;
+        if (result == null) {
+            synchronized (RetryPolicy.class) {
+                result = instance;
+                if (result == null) {
+                    result = new RetryPolicy();
+                    instance = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Run a blocking send, retrying it while the policy allows
+     */
+    public Response execute(String method, String endpoint, boolean hasIdempotencyKey, Supplier<Response> attempt) {
+        Settings settings = Settings.of(ConfigManager.getInstance().getSnapshot(), method, endpoint, hasIdempotencyKey);
+        deposit();
+        long startNanos = System.nanoTime();
+        for (int retry = 0; ; retry++) {
+            Response response;
+            try {
+                response = attempt.get();
+            } catch (Exception e) {
+                long delayMs = retryDelayMs(settings, retry, null, e, startNanos);
+                if (delayMs < 0) {
+                    throw e;
+                }
+                sleep(delayMs);
+                continue;
+            }
+            long delayMs = retryDelayMs(settings, retry, response, null, startNanos);
+            if (delayMs < 0) {
+                return response;
+            }
+            sleep(delayMs);
+        }
+    }
+
+    /**
+     * Run a non-blocking send, scheduling retries after their backoff instead of sleeping
+     */
+    public CompletableFuture<Response> executeAsync(String method, String endpoint, boolean hasIdempotencyKey,
+                                                    Supplier<CompletableFuture<Response>> attempt) {
+        Settings settings = Settings.of(ConfigManager.getInstance().getSnapshot(), method, endpoint, hasIdempotencyKey);
+        deposit();
+        return attemptAsync(settings, 0, attempt, System.nanoTime());
+    }
+
+    private CompletableFuture<Response> attemptAsync(Settings settings, int retry,
+                                                     Supplier<CompletableFuture<Response>> attempt, long startNanos) {
+        return attempt.get().handle((response, error) -> {
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            long delayMs = retryDelayMs(settings, retry, response, cause, startNanos);
+            if (delayMs < 0) {
+                return error != null ? CompletableFuture.<Response>failedFuture(cause) : CompletableFuture.completedFuture(response);
+            }
+            return CompletableFuture.runAsync(() -> { }, CompletableFuture.delayedExecutor(delayMs, TimeUnit.MILLISECONDS))
+                    .thenCompose(ignored -> attemptAsync(settings, retry + 1, attempt, startNanos));
+        }).thenCompose(future -> future);
+    }
+
+    /**
+     * Decide whether to retry after an attempt; returns the delay in ms, or -1 to stop
+     * No retry is scheduled that would end after the endpoint's total timeout
+     */
+    private long retryDelayMs(Settings settings, int retry, Response response, Throwable error, long startNanos) {
+        String outcome;
+        if (error != null) {
+            if (!isRetryable(error)) {
+                return -1;
+            }
+            outcome = error.getClass().getSimpleName();
+        } else if (settings.statusCodes.contains(response.getStatusCode())) {
+            outcome = "HTTP " + response.getStatusCode();
+        } else {
+            return -1;
+        }
+
+        if (!settings.retryable || retry >= settings.maxRetries) {
+            if (settings.retryable && settings.maxRetries > 0) {
+                givenUp.increment();
+                logger.warn("Giving up on {} {} after {} retries: {}", settings.method, settings.endpoint, retry, outcome);
+            }
+            return -1;
+        }
+
+        // Full jitter: a uniformly random delay up to the exponential backoff ceiling
+        long ceilingMs = Math.min(settings.maxDelayMs, settings.baseDelayMs << Math.min(retry, 30));
+        long delayMs = ThreadLocalRandom.current().nextLong(ceilingMs + 1);
+        long retryAfterMs = response != null ? retryAfterMs(response.getHeader("Retry-After")) : -1;
+        if (retryAfterMs >= 0) {
+            if (retryAfterMs > settings.maxDelayMs) {
+                givenUp.increment();
+                logger.warn("Not retrying {} {}: Retry-After of {}ms exceeds max delay of {}ms",
+                        settings.method, settings.endpoint, retryAfterMs, settings.maxDelayMs);
+                return -1;
+            }
+            retryAfterHonoured.increment();
+            delayMs = Math.max(delayMs, retryAfterMs);
+        }
+
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        if (elapsedMs + delayMs > settings.totalTimeoutMs) {
+            givenUp.increment();
+            logger.warn("Not retrying {} {} after {}: total timeout of {}ms would be exceeded",
+                    settings.method, settings.endpoint, outcome, settings.totalTimeoutMs);
+            return -1;
+        }
+
+        if (!withdraw()) {
+            budgetExhausted.increment();
+            logger.warn("Retry budget exhausted, not retrying {} {} after {}", settings.method, settings.endpoint, outcome);
+            return -1;
+        }
+        retries.increment();
+        String message = String.format("Retrying %s %s after %s in %dms (retry %d of %d)",
+                settings.method, settings.endpoint, outcome, delayMs, retry + 1, settings.maxRetries);
+        logger.info(message);
+        ExtentReportManager.logWarning(message);
+        return delayMs;
+    }
+
+    /**
+     * Connection failures and timeouts are retryable; everything else (assertions, open circuits) is not
+     */
+    private static boolean isRetryable(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof IOException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Parse a Retry-After header given as delay-seconds or an HTTP date; returns -1 if absent or invalid
+     */
+    static long retryAfterMs(String retryAfter) {
+        if (retryAfter == null || retryAfter.trim().isEmpty()) {
+            return -1;
+        }
+        String value = retryAfter.trim();
+        try {
+            return Math.max(0, TimeUnit.SECONDS.toMillis(Long.parseLong(value)));
+        } catch (NumberFormatException e) {
+            try {
+                ZonedDateTime date = ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME);
+                return Math.max(0, Duration.between(ZonedDateTime.now(date.getZone()), date).toMillis());
+            } catch (DateTimeParseException ignored) {
+                logger.debug("Ignoring unparseable Retry-After header: {}", value);
+                return -1;
+            }
+        }
+    }
+
+    private void sleep(long delayMs) {
+        try {
+            Thread.sleep(delayMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting to retry request", e);
+        }
+    }
+
+    /**
+     * Each new request earns a fraction of a retry, up to the reserve
+     */
+    private void deposit() {
+        long earned = (long) (budgetRatio * 1000);
+        budgetMillis.accumulateAndGet(earned, (balance, amount) -> Math.min(budgetReserveMillis, balance + amount));
+    }
+
+    private boolean withdraw() {
+        while (true) {
+            long balance = budgetMillis.get();
+            if (balance < 1000) {
+                return false;
+            }
+            if (budgetMillis.compareAndSet(balance, balance - 1000)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Get retry statistics formatted for logging and reporting
+     */
+    public String getStatsSummary() {
+        return String.format("retries=%d, retry-after honoured=%d, budget exhausted=%d, given up=%d, budget left=%.1f",
+                retries.sum(), retryAfterHonoured.sum(), budgetExhausted.sum(), givenUp.sum(),
+                budgetMillis.get() / 1000.0);
+    }
+
+    /**
+     * Retry settings resolved for one request
+     */
+    private static final class Settings {
+        private final String method;
+        private final String endpoint;
+        private final boolean retryable;
+        private final int maxRetries;
+        private final long baseDelayMs;
+        private final long maxDelayMs;
+        private final Set<Integer> statusCodes;
+        private final long totalTimeoutMs;
+
+        private Settings(String method, String endpoint, boolean retryable, int maxRetries,
+                         long baseDelayMs, long maxDelayMs, Set<Integer> statusCodes, long totalTimeoutMs) {
+            this.method = method;
+            this.endpoint = endpoint;
+            this.retryable = retryable;
+            this.maxRetries = maxRetries;
+            this.baseDelayMs = baseDelayMs;
+            this.maxDelayMs = maxDelayMs;
+            this.statusCodes = statusCodes;
+            this.totalTimeoutMs = totalTimeoutMs;
+        }
+
+        static Settings of(ConfigSnapshot config, String method, String endpoint, boolean hasIdempotencyKey) {
+            String upperMethod = method.toUpperCase();
+            boolean retryable = IDEMPOTENT_METHODS.contains(upperMethod)
+                    || (hasIdempotencyKey && config.getBoolean("api.retry.idempotency.key.enabled", true));
+            String statusCodes = config.getEndpointString(endpoint, "retry.status.codes", "429,502,503,504");
+            return new Settings(upperMethod, endpoint, retryable,
+                    config.getEndpointInt(endpoint, "retry.attempts", 0),
+                    Math.max(1, config.getEndpointLong(endpoint, "retry.delay", 1000)),
+                    config.getEndpointLong(endpoint, "retry.max.delay", 30000),
+                    parsedStatusCodes.computeIfAbsent(statusCodes, RetryPolicy::parseStatusCodes),
+                    RequestTimeouts.forEndpoint(config, endpoint).getTotalMs());
+        }
+    }
+
+    private static Set<Integer> parseStatusCodes(String statusCodes) {
+        Set<Integer> codes = new HashSet<>();
+        for (String code : statusCodes.split(",")) {
+            if (!code.trim().isEmpty()) {
+                codes.add(Integer.parseInt(code.trim()));
+            }
+        }
+        return Collections.unmodifiableSet(codes);
+    }
+}
@@ -0,0 +1,286 @@
+package framework.core;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.restassured.response.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+/**
+ * Streaming validation for very large JSON array responses
+ * Walks the body with a Jackson JsonParser, so arrays are counted and checked one element at a
+ * time instead of being materialised as a List or a parsed document
+ * Array paths are dotted field names with optional non-negative indexes ("data.items", "pages[0].rows", "$");
+ * GPath expressions, and fields applied to an array, are rejected with an UnsupportedPathException
+ */
+public class StreamingJsonValidator {
+    private static final Logger logger = LoggerFactory.getLogger(StreamingJsonValidator.class);
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final int MAX_ELEMENT_PREVIEW = 500;
+    private static final Pattern STEP = Pattern.compile("([A-Za-z_][A-Za-z0-9_]*)?((?:\\[\\d{1,9}])*)");
+    private static final Pattern INDEX = Pattern.compile("\\[(\\d+)]");
+
+    private final Response response;
+
+    public StreamingJsonValidator(Response response) {
+        this.response = response;
+    }
+
+    /**
+     * Count the elements of the array at the path without materialising them
+     */
+    public long countElements(String arrayPath) {
+        long[] count = {0};
+        forEachElement(arrayPath, (parser, index) -> {
+            parser.skipChildren();
+            count[0]++;
+            return true;
+        });
+        return count[0];
+    }
+
+    /**
+     * Validate JSON array size
+     */
+    public StreamingJsonValidator arraySize(String arrayPath, long expectedSize) {
+        long actualSize = countElements(arrayPath);
+        assertThat(actualSize)
+                .as("JSON array size validation failed for: " + arrayPath)
+                .isEqualTo(expectedSize);
+
+        logger.info("Streaming JSON array size validation passed: {} has size {}", arrayPath, expectedSize);
+        return this;
+    }
+
+    /**
+     * Validate JSON array is not empty, stopping at the first element
+     */
+    public StreamingJsonValidator arrayNotEmpty(String arrayPath) {
+        boolean[] found = {false};
+        forEachElement(arrayPath, (parser, index) -> {
+            found[0] = true;
+            return false;
+        });
+        assertThat(found[0])
+                .as("JSON array should not be empty: " + arrayPath)
+                .isTrue();
+
+        logger.info("Streaming JSON array not empty validation passed: {}", arrayPath);
+        return this;
+    }
+
+    /**
+     * Validate every array element matches the predicate; elements are read one at a time
+     */
+    public StreamingJsonValidator allElementsMatch(String arrayPath, Predicate<JsonNode> predicate, String description) {
+        long[] checked = {0};
+        forEachElement(arrayPath, (parser, index) -> {
+            JsonNode element = parser.readValueAsTree();
+            // Only a failing element is serialized for the message
+            if (!predicate.test(element)) {
+                fail("Element %d of %s should match: %s - element: %s", index, arrayPath, description, preview(element));
+            }
+            checked[0]++;
+            return true;
+        });
+
+        logger.info("Streaming validation passed: all {} elements of {} match {}", checked[0], arrayPath, description);
+        return this;
+    }
+
+    /**
+     * Validate at least one array element matches the predicate, stopping at the first match
+     */
+    public StreamingJsonValidator anyElementMatches(String arrayPath, Predicate<JsonNode> predicate, String description) {
+        long[] matchIndex = {-1};
+        forEachElement(arrayPath, (parser, index) -> {
+            JsonNode element = parser.readValueAsTree();
+            if (predicate.test(element)) {
+                matchIndex[0] = index;
+                return false;
+            }
+            return true;
+        });
+        assertThat(matchIndex[0])
+                .as("At least one element of %s should match: %s", arrayPath, description)
+                .isGreaterThanOrEqualTo(0);
+
+        logger.info("Streaming validation passed: element {} of {} matches {}", matchIndex[0], arrayPath, description);
+        return this;
+    }
+
+    /**
+     * Validate every array element has a non-null value at the field path
+     */
+    public StreamingJsonValidator eachElementHasField(String arrayPath, String fieldPath) {
+        return allElementsMatch(arrayPath, element -> {
+            JsonNode value = element.at(toPointer(fieldPath));
+            return !value.isMissingNode() && !value.isNull();
+        }, "has field " + fieldPath);
+    }
+
+    /**
+     * Validate every array element has the expected value at the field path
+     */
+    public StreamingJsonValidator eachElementFieldEquals(String arrayPath, String fieldPath, Object expectedValue) {
+        String expected = expectedValue != null ? String.valueOf(expectedValue) : null;
+        return allElementsMatch(arrayPath, element -> {
+            JsonNode value = element.at(toPointer(fieldPath));
+            String actual = value.isMissingNode() || value.isNull() ? null : value.asText();
+            return Objects.equals(actual, expected);
+        }, fieldPath + " = " + expected);
+    }
+
+    /**
+     * Walk the array at the path, calling the visitor with the parser positioned on each element's first token
+     * The visitor must consume the element (skipChildren or readValueAsTree) and returns false to stop early
+     */
+    public void forEachElement(String arrayPath, ElementVisitor visitor) {
+        try (JsonParser parser = objectMapper.getFactory().createParser(response.getBody().asInputStream())) {
+            parser.nextToken();
+            if (!seek(parser, parseSteps(arrayPath), arrayPath)) {
+                throw new AssertionError("JSON path not found: " + arrayPath);
+            }
+            if (parser.currentToken() != JsonToken.START_ARRAY) {
+                throw new AssertionError("JSON path is not an array: " + arrayPath);
+            }
+            long index = 0;
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                if (!visitor.visit(parser, index++)) {
+                    return;
+                }
+            }
+        } catch (IOException e) {
+            logger.error("Failed to stream JSON array at: {}", arrayPath, e);
+            throw new RuntimeException("Streaming JSON validation failed", e);
+        }
+    }
+
+    /**
+     * Advance the parser to the value at the given steps
+     */
+    private static boolean seek(JsonParser parser, List<Object> steps, String path) throws IOException {
+        for (Object step : steps) {
+            if (step instanceof String) {
+                if (parser.currentToken() == JsonToken.START_ARRAY) {
+                    throw new UnsupportedPathException("Field '" + step + "' in " + path
+                            + " is applied to an array; spreading over elements is not supported when streaming");
+                }
+                if (parser.currentToken() != JsonToken.START_OBJECT || !seekField(parser, (String) step)) {
+                    return false;
+                }
+            } else {
+                if (parser.currentToken() != JsonToken.START_ARRAY || !seekIndex(parser, (Integer) step)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static boolean seekField(JsonParser parser, String field) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.getCurrentName();
+            parser.nextToken();
+            if (name.equals(field)) {
+                return true;
+            }
+            parser.skipChildren();
+        }
+        return false;
+    }
+
+    private static boolean seekIndex(JsonParser parser, int target) throws IOException {
+        int index = 0;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (index++ == target) {
+                return true;
+            }
+            parser.skipChildren();
+        }
+        return false;
+    }
+
+    /**
+     * Check a path can be streamed, i.e. it is a plain dotted path rather than a GPath expression
+     */
+    public static boolean isStreamable(String path) {
+        try {
+            parseSteps(path);
+            return true;
+        } catch (UnsupportedPathException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Split a dotted path into field names and array indexes
+     */
+    static List<Object> parseSteps(String path) {
+        List<Object> steps = new ArrayList<>();
+        String trimmed = path == null ? "" : path.trim();
+        if (trimmed.equals("$") || trimmed.isEmpty()) {
+            return steps;
+        }
+        if (trimmed.startsWith("$.")) {
+            trimmed = trimmed.substring(2);
+        }
+        for (String part : trimmed.split("\\.", -1)) {
+            Matcher matcher = STEP.matcher(part);
+            if (part.isEmpty() || !matcher.matches()) {
+                throw new UnsupportedPathException("Streaming supports only dotted paths with non-negative indexes "
+                        + "(e.g. data.items or pages[0].rows), not: " + path);
+            }
+            if (matcher.group(1) != null) {
+                steps.add(matcher.group(1));
+            }
+            Matcher index = INDEX.matcher(matcher.group(2));
+            while (index.find()) {
+                steps.add(Integer.parseInt(index.group(1)));
+            }
+        }
+        return steps;
+    }
+
+    /**
+     * Convert a dotted element field path ("address.city") to a JSON pointer
+     */
+    private static String toPointer(String fieldPath) {
+        return "/" + fieldPath.replace("~", "~0").replace("/", "~1").replace('.', '/');
+    }
+
+    private static String preview(JsonNode element) {
+        String text = element.toString();
+        return text.length() > MAX_ELEMENT_PREVIEW ? text.substring(0, MAX_ELEMENT_PREVIEW) + "..." : text;
+    }
+
+    /**
+     * Thrown for paths that need GPath semantics and cannot be evaluated while streaming
+     */
+    public static class UnsupportedPathException extends IllegalArgumentException {
+        public UnsupportedPathException(String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * Callback for each array element during a streaming walk
+     */
+    @FunctionalInterface
+    public interface ElementVisitor {
+        boolean visit(JsonParser parser, long index) throws IOException;
+    }
+}
@@ -21,19 +21,24 @@ public class TestContext {
     
     // Special keys for common test artifacts
     public static final String RESPONSE_KEY = "last_response";
+    public static final String RESPONSE_VALIDATOR_KEY = "last_response_validator";
     public static final String REQUEST_BODY_KEY = "last_request_body";
     public static final String ENDPOINT_KEY = "last_endpoint";
     public static final String USER_ID_KEY = "user_id";
     public static final String AUTH_TOKEN_KEY = "auth_token";
     public static final String TEST_DATA_KEY = "test_data";
     public static final String SCENARIO_NAME_KEY = "scenario_name";
+    public static final String LOAD_TEST_RESULT_KEY = "load_test_result";
+    public static final String BATCH_RESULT_KEY = "batch_result";
+    public static final String LATENCY_WINDOW_KEY = "latency_window";
 
     /**
      * Store a value in the context
      */
     public static void set(String key, Object value) {
         contextStorage.get().put(key, value);
-        logger.debug("Context value set: {} = {}", key, value);
+        logger.debug("Context value set: {}", key);
+        logger.trace("Context value {} = {}", key, value);
     }
 
     /**
@@ -42,7 +47,7 @@ public class TestContext {
     @SuppressWarnings("unchecked")
     public static <T> T get(String key) {
         Object value = contextStorage.get().get(key);
-        logger.debug("Context value retrieved: {} = {}", key, value);
+        logger.debug("Context value retrieved: {}", key);
         return (T) value;
     }
 
@@ -52,7 +57,7 @@ public class TestContext {
     @SuppressWarnings("unchecked")
     public static <T> T get(String key, T defaultValue) {
         Object value = contextStorage.get().getOrDefault(key, defaultValue);
-        logger.debug("Context value retrieved with default: {} = {}", key, value);
+        logger.debug("Context value retrieved with default: {}", key);
         return (T) value;
     }
 
@@ -70,7 +75,7 @@ public class TestContext {
      */
     public static void remove(String key) {
         Object removed = contextStorage.get().remove(key);
-        logger.debug("Context value removed: {} = {}", key, removed);
+        logger.debug("Context value removed: {} (present={})", key, removed != null);
     }
 
     /**
@@ -221,13 +226,19 @@ public class TestContext {
 
     /**
      * Get response validator for the last response
+     * The validator is reused while the response is unchanged, so its parsed body is shared across steps
      */
     public static ResponseValidator getResponseValidator() {
         Response response = getResponse();
-        if (response != null) {
-            return new ResponseValidator(response);
+        if (response == null) {
+            throw new IllegalStateException("No response found in context. Execute an API request first.");
+        }
+        ResponseValidator validator = (ResponseValidator) contextStorage.get().get(RESPONSE_VALIDATOR_KEY);
+        if (validator == null || validator.getResponse() != response) {
+            validator = new ResponseValidator(response);
+            contextStorage.get().put(RESPONSE_VALIDATOR_KEY, validator);
         }
-        throw new IllegalStateException("No response found in context. Execute an API request first.");
+        return validator;
     }
 
     /**
@@ -252,9 +263,8 @@ public class TestContext {
      * Get response body as string from last response
      */
     public static String getResponseBodyAsString() {
-        Response response = getResponse();
-        if (response != null) {
-            return response.getBody().asString();
+        if (getResponse() != null) {
+            return getResponseValidator().getBody();
         }
         throw new IllegalStateException("No response found in context");
     }
@@ -263,13 +273,30 @@ public class TestContext {
      * Extract value from last response using JSON path
      */
     public static <T> T extractFromResponse(String jsonPath) {
-        Response response = getResponse();
-        if (response != null) {
-            return response.jsonPath().get(jsonPath);
+        if (getResponse() != null) {
+            return getResponseValidator().extract(jsonPath);
         }
         throw new IllegalStateException("No response found in context");
     }
 
+    /**
+     * Get the current thread's storage map (used by ContextPropagation)
+     */
+    static Map<String, Object> currentStorage() {
+        return contextStorage.get();
+    }
+
+    /**
+     * Bind a storage map to the current thread (used by ContextPropagation)
+     */
+    static void attachStorage(Map<String, Object> storage) {
+        if (storage != null) {
+            contextStorage.set(storage);
+        } else {
+            contextStorage.remove();
+        }
+    }
+
     /**
      * Cleanup method to be called after each scenario
      */
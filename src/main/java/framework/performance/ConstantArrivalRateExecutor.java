@@ -0,0 +1,263 @@
+package framework.performance;
+
+import framework.config.ConfigManager;
+import framework.config.ConfigSnapshot;
+import framework.core.RequestBuilder;
+import framework.reporting.ExtentReportManager;
+import framework.utils.VirtualThreadSupport;
+import io.restassured.http.Method;
+import io.restassured.response.Response;
+import org.HdrHistogram.Recorder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model load generator issuing requests at a fixed arrival rate
+ * Requests are scheduled at start + i / rate regardless of whether earlier requests have completed,
+ * so a slow server builds up concurrency instead of silently lowering the send rate. Latency is
+ * recorded both from the actual send (uncorrected) and from the intended send time (corrected for
+ * coordinated omission). Requests still outstanding when the drain times out are recorded as
+ * failures with their latency so far, so the slowest tail is never dropped from the results
+ */
+public class ConstantArrivalRateExecutor {
+    private static final Logger logger = LoggerFactory.getLogger(ConstantArrivalRateExecutor.class);
+    private static final long LATE_START_THRESHOLD_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long DRAIN_TIMEOUT_MS = 60000;
+    private static final long WORKER_STOP_TIMEOUT_MS = 5000;
+
+    private final double ratePerSecond;
+    private final Duration duration;
+    private final int maxInFlight;
+    private final long maxResponseTimeMs;
+
+    public ConstantArrivalRateExecutor(double ratePerSecond, Duration duration, int maxInFlight, long maxResponseTimeMs) {
+        if (ratePerSecond <= 0) {
+            throw new IllegalArgumentException("Arrival rate must be positive: " + ratePerSecond);
+        }
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("Max in-flight requests must be at least 1: " + maxInFlight);
+        }
+        this.ratePerSecond = ratePerSecond;
+        this.duration = duration;
+        this.maxInFlight = maxInFlight;
+        this.maxResponseTimeMs = maxResponseTimeMs;
+    }
+
+    /**
+     * Build an executor from performance.arrival.rate (req/s), performance.load.test.duration (seconds),
+     * performance.max.in.flight and performance.max.response.time (ms)
+     */
+    public static ConstantArrivalRateExecutor fromConfig() {
+        ConfigSnapshot config = ConfigManager.getInstance().getSnapshot();
+        return new ConstantArrivalRateExecutor(
+                config.getDouble("performance.arrival.rate", 10),
+                Duration.ofSeconds(config.getLong("performance.load.test.duration", 60)),
+                config.getInt("performance.max.in.flight", 1000),
+                config.getLong("performance.max.response.time", 5000));
+    }
+
+    /**
+     * Copy of this executor with a different rate and duration
+     */
+    public ConstantArrivalRateExecutor withRate(double newRatePerSecond, Duration newDuration) {
+        return new ConstantArrivalRateExecutor(newRatePerSecond, newDuration, maxInFlight, maxResponseTimeMs);
+    }
+
+    /**
+     * Send a request template at the configured rate; each request uses its own copy of the builder
+     */
+    public LoadTestResult run(String name, RequestBuilder template, Method method) {
+        return run(name, () -> template.clone().execute(method));
+    }
+
+    /**
+     * Run a task at the configured rate; the task must be safe to call concurrently
+     */
+    public LoadTestResult run(String name, LoadTestEngine.LoadTask task) {
+        LoadTestEngine.LoadTask windowedTask = LoadTestEngine.inWindow(LatencyMetrics.currentWindow(), task);
+        logger.info("Starting constant arrival rate test '{}' - rate={}/s, duration={}s, max in flight={}",
+                name, ratePerSecond, duration.getSeconds(), maxInFlight);
+
+        double intervalNanos = 1_000_000_000.0 / ratePerSecond;
+        long totalRequests = (long) (duration.toNanos() / intervalNanos);
+        Samples samples = new Samples(maxResponseTimeMs);
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        Set<ScheduledRequest> outstanding = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = VirtualThreadSupport.newThreadPerTaskExecutor("arrival-worker");
+
+        long startNanos = System.nanoTime();
+        try {
+            for (long i = 0; i < totalRequests; i++) {
+                long intendedNanos = startNanos + (long) (i * intervalNanos);
+                long wait = intendedNanos - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                ScheduledRequest request = new ScheduledRequest(intendedNanos);
+                // Blocking here delays the actual send, which the corrected latency still accounts for
+                inFlight.acquire();
+                outstanding.add(request);
+                executor.execute(() -> {
+                    try {
+                        send(windowedTask, samples, request);
+                    } finally {
+                        outstanding.remove(request);
+                        inFlight.release();
+                    }
+                });
+            }
+            if (!inFlight.tryAcquire(maxInFlight, DRAIN_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                int abandoned = recordOutstanding(outstanding, samples);
+                logger.warn("{} requests still in flight {}ms after the last send, recorded as failures",
+                        abandoned, DRAIN_TIMEOUT_MS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Constant arrival rate test interrupted: " + name, e);
+        } finally {
+            stopWorkers(executor);
+        }
+
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        LoadTestResult result = samples.toResult(name, elapsedMs, ratePerSecond);
+        logger.info("Constant arrival rate test finished - {}", result.toSummary());
+        ExtentReportManager.logInfo("Load test " + result.toSummary());
+        return result;
+    }
+
+    /**
+     * Send one request and record its latency from both the actual and the intended send time
+     * Nothing is recorded if the request was already recorded as timed out
+     */
+    private static void send(LoadTestEngine.LoadTask task, Samples samples, ScheduledRequest request) {
+        long sendNanos = System.nanoTime();
+        request.sendNanos = sendNanos;
+        int status;
+        try {
+            Response response = task.execute();
+            status = response != null ? response.getStatusCode() : 0;
+        } catch (Exception e) {
+            logger.debug("Arrival rate request failed", e);
+            status = 0;
+        }
+        long doneNanos = System.nanoTime();
+        if (request.claim()) {
+            samples.record(doneNanos - sendNanos, doneNanos - request.intendedNanos,
+                    sendNanos - request.intendedNanos > LATE_START_THRESHOLD_NANOS, status);
+        }
+    }
+
+    /**
+     * Record every request still in flight as a failure, with latency measured up to now
+     * Returns the number of requests recorded
+     */
+    private static int recordOutstanding(Set<ScheduledRequest> outstanding, Samples samples) {
+        long nowNanos = System.nanoTime();
+        int recorded = 0;
+        for (ScheduledRequest request : outstanding) {
+            if (request.claim()) {
+                long sendNanos = request.sendNanos;
+                samples.record(nowNanos - sendNanos, nowNanos - request.intendedNanos,
+                        sendNanos - request.intendedNanos > LATE_START_THRESHOLD_NANOS, 0);
+                recorded++;
+            }
+        }
+        return recorded;
+    }
+
+    /**
+     * Interrupt the workers and wait for them to exit before results are built
+     */
+    private static void stopWorkers(ExecutorService executor) {
+        executor.shutdownNow();
+        try {
+            if (!executor.awaitTermination(WORKER_STOP_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                logger.warn("Arrival rate workers still running {}ms after shutdown", WORKER_STOP_TIMEOUT_MS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public double getRatePerSecond() {
+        return ratePerSecond;
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    /**
+     * One scheduled send; exactly one of the worker or the drain timeout records its outcome
+     */
+    private static final class ScheduledRequest {
+        private final long intendedNanos;
+        /** Actual send time; the intended time until the worker starts sending */
+        private volatile long sendNanos;
+        private final AtomicBoolean recorded = new AtomicBoolean();
+
+        ScheduledRequest(long intendedNanos) {
+            this.intendedNanos = intendedNanos;
+            this.sendNanos = intendedNanos;
+        }
+
+        boolean claim() {
+            return recorded.compareAndSet(false, true);
+        }
+    }
+
+    /**
+     * Latency recorders and counters shared by all in-flight requests; recording is wait-free
+     */
+    private static final class Samples {
+        private final long maxResponseTimeNanos;
+        private final Recorder uncorrected = new Recorder(3);
+        private final Recorder corrected = new Recorder(3);
+        private final LongAdder failed = new LongAdder();
+        private final LongAdder slow = new LongAdder();
+        private final LongAdder lateStarts = new LongAdder();
+        private final ConcurrentMap<Integer, LongAdder> statusCounts = new ConcurrentHashMap<>();
+
+        Samples(long maxResponseTimeMs) {
+            this.maxResponseTimeNanos = TimeUnit.MILLISECONDS.toNanos(maxResponseTimeMs);
+        }
+
+        void record(long uncorrectedNanos, long correctedNanos, boolean lateStart, int status) {
+            uncorrected.recordValue(TimeUnit.NANOSECONDS.toMicros(uncorrectedNanos));
+            corrected.recordValue(TimeUnit.NANOSECONDS.toMicros(correctedNanos));
+            if (status == 0 || status >= 400) {
+                failed.increment();
+            }
+            if (correctedNanos > maxResponseTimeNanos) {
+                slow.increment();
+            }
+            if (lateStart) {
+                lateStarts.increment();
+            }
+            statusCounts.computeIfAbsent(status, s -> new LongAdder()).increment();
+        }
+
+        LoadTestResult toResult(String name, long elapsedMs, double targetRate) {
+            Map<Integer, Long> statuses = new TreeMap<>();
+            statusCounts.forEach((status, count) -> statuses.put(status, count.sum()));
+            LatencySummary uncorrectedSummary = LatencySummary.fromHistogram(uncorrected.getIntervalHistogram());
+            LatencySummary correctedSummary = LatencySummary.fromHistogram(corrected.getIntervalHistogram());
+            long count = correctedSummary.getCount();
+            return new LoadTestResult(name, count, failed.sum(), slow.sum(), elapsedMs, count, elapsedMs,
+                    uncorrectedSummary, correctedSummary, targetRate, lateStarts.sum(), statuses);
+        }
+    }
+}
@@ -0,0 +1,349 @@
+package framework.performance;
+
+import framework.core.TestContext;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+import org.HdrHistogram.Recorder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Process-wide latency registry for every API call, keyed by "METHOD endpoint-template"
+ * Each key has a wait-free HdrHistogram Recorder that any thread can record into; interval
+ * histograms are merged into an accumulated histogram whenever stats are read
+ * A scenario can open its own Window so SLO checks see only the calls it made, without
+ * clearing the process-wide data other scenarios are still recording into
+ */
+public final class LatencyMetrics {
+    private static final Logger logger = LoggerFactory.getLogger(LatencyMetrics.class);
+    private static final ConcurrentMap<String, EndpointRecorder> recorders = new ConcurrentHashMap<>();
+    // Window of a worker thread that does not carry the scenario's context (load test workers)
+    private static final ThreadLocal<Window> attachedWindow = new ThreadLocal<>();
+    /** Status recorded for a request that timed out */
+    public static final int STATUS_TIMEOUT = -1;
+
+    private LatencyMetrics() {
+    }
+
+    /**
+     * Record one call; statusCode 0 means the request failed without a response, STATUS_TIMEOUT that it timed out
+     */
+    public static void record(String method, String endpoint, long latencyNanos, int statusCode) {
+        record(currentWindow(), method, endpoint, latencyNanos, statusCode);
+    }
+
+    /**
+     * Record one call, also into the given scenario window (may be null)
+     * Used by callbacks that run on threads without the scenario's context
+     */
+    public static void record(Window window, String method, String endpoint, long latencyNanos, int statusCode) {
+        String key = key(method, endpoint);
+        recorders.computeIfAbsent(key, EndpointRecorder::new).record(latencyNanos, statusCode);
+        if (window != null) {
+            window.record(key, latencyNanos, statusCode);
+        }
+    }
+
+    /**
+     * Start a new latency window for the current scenario, replacing any earlier one
+     * Calls made from the scenario (and from work propagated with its context) are recorded into it
+     */
+    public static Window startWindow() {
+        Window window = new Window();
+        TestContext.set(TestContext.LATENCY_WINDOW_KEY, window);
+        return window;
+    }
+
+    /**
+     * The current scenario's latency window, or null if it has not started one
+     */
+    public static Window currentWindow() {
+        Window attached = attachedWindow.get();
+        return attached != null ? attached : TestContext.get(TestContext.LATENCY_WINDOW_KEY);
+    }
+
+    /**
+     * Run a call with the given window attached to the current thread
+     */
+    static <T> T callInWindow(Window window, Callable<T> call) throws Exception {
+        Window previous = attachedWindow.get();
+        attachedWindow.set(window);
+        try {
+            return call.call();
+        } finally {
+            if (previous != null) {
+                attachedWindow.set(previous);
+            } else {
+                attachedWindow.remove();
+            }
+        }
+    }
+
+    /**
+     * Get stats for one method and endpoint template, or null if it was never called
+     */
+    public static EndpointStats getStats(String method, String endpoint) {
+        EndpointRecorder recorder = recorders.get(key(method, endpoint));
+        return recorder != null ? recorder.snapshot() : null;
+    }
+
+    /**
+     * Get stats for all recorded endpoints, sorted by key
+     */
+    public static Map<String, EndpointStats> getAllStats() {
+        Map<String, EndpointStats> stats = new TreeMap<>();
+        recorders.forEach((key, recorder) -> stats.put(key, recorder.snapshot()));
+        return stats;
+    }
+
+    /**
+     * Stats across all endpoints combined
+     */
+    public static EndpointStats getTotalStats() {
+        return total(getAllStats());
+    }
+
+    private static EndpointStats total(Map<String, EndpointStats> all) {
+        Histogram total = new Histogram(3);
+        long errors = 0;
+        long firstNanos = Long.MAX_VALUE;
+        long lastNanos = Long.MIN_VALUE;
+        Map<Integer, Long> statuses = new TreeMap<>();
+        for (EndpointStats stats : all.values()) {
+            total.add(stats.getHistogram());
+            errors += stats.getErrorCount();
+            firstNanos = Math.min(firstNanos, stats.firstNanos);
+            lastNanos = Math.max(lastNanos, stats.lastNanos);
+            stats.getStatusCounts().forEach((status, count) -> statuses.merge(status, count, Long::sum));
+        }
+        return new EndpointStats("ALL", total, errors, firstNanos, lastNanos, statuses);
+    }
+
+    /**
+     * Log every endpoint's latency and write the histograms as an HdrHistogram log (one tagged entry per endpoint)
+     */
+    public static void dump(File histogramLog) {
+        Map<String, EndpointStats> all = getAllStats();
+        if (all.isEmpty()) {
+            return;
+        }
+        all.values().forEach(stats -> logger.info("Latency {}", stats.toSummary()));
+
+        File parent = histogramLog.getParentFile();
+        if (parent != null && !parent.exists() && !parent.mkdirs()) {
+            logger.warn("Could not create directory for latency histograms: {}", parent);
+            return;
+        }
+        try {
+            HistogramLogWriter writer = new HistogramLogWriter(histogramLog);
+            writer.outputLogFormatVersion();
+            writer.outputLegend();
+            for (EndpointStats stats : all.values()) {
+                Histogram histogram = stats.getHistogram();
+                histogram.setTag(stats.getKey().replace(' ', '_'));
+                writer.outputIntervalHistogram(histogram);
+            }
+            writer.close();
+            logger.info("Latency histograms written to {}", histogramLog.getPath());
+        } catch (FileNotFoundException e) {
+            logger.warn("Failed to write latency histograms to {}", histogramLog, e);
+        }
+    }
+
+    /**
+     * Clear all recorded latencies in this process
+     * Other scenarios running in parallel lose their data too, so SLO checks should use a Window instead
+     */
+    public static void reset() {
+        recorders.clear();
+    }
+
+    /**
+     * Build the registry key; query strings are dropped so the key stays a template
+     */
+    static String key(String method, String endpoint) {
+        int query = endpoint.indexOf('?');
+        return method.toUpperCase() + " " + (query >= 0 ? endpoint.substring(0, query) : endpoint);
+    }
+
+    /**
+     * Whether a call counts as an error: server errors, timeouts and failures without a response
+     * 4xx responses are usually expected by the test (negative cases), so they only show in the status counts
+     */
+    static boolean isError(int statusCode) {
+        return statusCode <= 0 || statusCode >= 500;
+    }
+
+    /**
+     * Latencies recorded since a scenario started the window, keyed like the process-wide registry
+     */
+    public static final class Window {
+        private final ConcurrentMap<String, EndpointRecorder> recorders = new ConcurrentHashMap<>();
+
+        Window() {
+        }
+
+        void record(String key, long latencyNanos, int statusCode) {
+            recorders.computeIfAbsent(key, EndpointRecorder::new).record(latencyNanos, statusCode);
+        }
+
+        /**
+         * Get stats for one method and endpoint template, or null if the scenario has not called it
+         */
+        public EndpointStats getStats(String method, String endpoint) {
+            EndpointRecorder recorder = recorders.get(key(method, endpoint));
+            return recorder != null ? recorder.snapshot() : null;
+        }
+
+        /**
+         * Get stats for all endpoints called in this window, sorted by key
+         */
+        public Map<String, EndpointStats> getAllStats() {
+            Map<String, EndpointStats> stats = new TreeMap<>();
+            recorders.forEach((key, recorder) -> stats.put(key, recorder.snapshot()));
+            return stats;
+        }
+
+        /**
+         * Stats across all endpoints called in this window
+         */
+        public EndpointStats getTotalStats() {
+            return total(getAllStats());
+        }
+    }
+
+    /**
+     * Recorder and counters for one key
+     */
+    private static final class EndpointRecorder {
+        private final String key;
+        private final Recorder recorder = new Recorder(3);
+        private final Histogram accumulated = new Histogram(3);
+        private final LongAdder errors = new LongAdder();
+        private final ConcurrentMap<Integer, LongAdder> statusCounts = new ConcurrentHashMap<>();
+        private final AtomicLong firstNanos = new AtomicLong(Long.MAX_VALUE);
+        private final AtomicLong lastNanos = new AtomicLong(Long.MIN_VALUE);
+
+        EndpointRecorder(String key) {
+            this.key = key;
+        }
+
+        void record(long latencyNanos, int statusCode) {
+            long now = System.nanoTime();
+            recorder.recordValue(TimeUnit.NANOSECONDS.toMicros(latencyNanos));
+            if (isError(statusCode)) {
+                errors.increment();
+            }
+            statusCounts.computeIfAbsent(statusCode, s -> new LongAdder()).increment();
+            firstNanos.accumulateAndGet(now - latencyNanos, Math::min);
+            lastNanos.accumulateAndGet(now, Math::max);
+        }
+
+        synchronized EndpointStats snapshot() {
+            accumulated.add(recorder.getIntervalHistogram());
+            Map<Integer, Long> statuses = new TreeMap<>();
+            statusCounts.forEach((status, count) -> statuses.put(status, count.sum()));
+            return new EndpointStats(key, accumulated.copy(), errors.sum(), firstNanos.get(), lastNanos.get(), statuses);
+        }
+    }
+
+    /**
+     * Point-in-time latency, throughput and error stats for one key
+     */
+    public static final class EndpointStats {
+        private final String key;
+        private final Histogram histogram;
+        private final long errorCount;
+        private final long firstNanos;
+        private final long lastNanos;
+        private final Map<Integer, Long> statusCounts;
+        private final LatencySummary latency;
+
+        EndpointStats(String key, Histogram histogram, long errorCount, long firstNanos, long lastNanos,
+                      Map<Integer, Long> statusCounts) {
+            this.key = key;
+            this.histogram = histogram;
+            this.errorCount = errorCount;
+            this.firstNanos = firstNanos;
+            this.lastNanos = lastNanos;
+            this.statusCounts = statusCounts;
+            this.latency = LatencySummary.fromHistogram(histogram);
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        public long getCount() {
+            return histogram.getTotalCount();
+        }
+
+        public long getErrorCount() {
+            return errorCount;
+        }
+
+        /**
+         * Fraction of calls that failed, timed out or returned 5xx (0.0 - 1.0)
+         */
+        public double getErrorRate() {
+            return getCount() == 0 ? 0.0 : (double) errorCount / getCount();
+        }
+
+        /**
+         * Calls per second between the first request start and the last response
+         */
+        public double getThroughput() {
+            long spanNanos = lastNanos - firstNanos;
+            return spanNanos <= 0 ? 0.0 : getCount() * 1_000_000_000.0 / spanNanos;
+        }
+
+        public LatencySummary getLatency() {
+            return latency;
+        }
+
+        /**
+         * Latency at any percentile in milliseconds
+         */
+        public double getPercentileMs(double percentile) {
+            return latency.getPercentileMs(percentile);
+        }
+
+        /**
+         * Copy of the underlying histogram (microseconds)
+         */
+        public Histogram getHistogram() {
+            return histogram.copy();
+        }
+
+        public Map<Integer, Long> getStatusCounts() {
+            return statusCounts;
+        }
+
+        /**
+         * Calls that timed out (also counted as errors)
+         */
+        public long getTimeoutCount() {
+            return statusCounts.getOrDefault(STATUS_TIMEOUT, 0L);
+        }
+
+        /**
+         * Get the stats formatted for logging and reporting
+         */
+        public String toSummary() {
+            return String.format("%s: count=%d, errors=%d, timeouts=%d, throughput=%.1f req/s, p50=%.1fms, p90=%.1fms, "
+                            + "p99=%.1fms, p99.9=%.1fms, max=%.1fms", key, getCount(), errorCount, getTimeoutCount(),
+                    getThroughput(), latency.getP50Ms(), latency.getP90Ms(), latency.getP99Ms(), latency.getP999Ms(), latency.getMaxMs());
+        }
+    }
+}
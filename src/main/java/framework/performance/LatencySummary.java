@@ -0,0 +1,99 @@
+package framework.performance;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * Latency distribution summary in milliseconds, built from an HdrHistogram recorded in microseconds
+ */
+public final class LatencySummary {
+    private final Histogram histogram;
+    private final long count;
+    private final double minMs;
+    private final double meanMs;
+    private final double p50Ms;
+    private final double p90Ms;
+    private final double p95Ms;
+    private final double p99Ms;
+    private final double p999Ms;
+    private final double maxMs;
+
+    LatencySummary(Histogram histogram, long count, double minMs, double meanMs, double p50Ms, double p90Ms,
+                   double p95Ms, double p99Ms, double p999Ms, double maxMs) {
+        this.histogram = histogram;
+        this.count = count;
+        this.minMs = minMs;
+        this.meanMs = meanMs;
+        this.p50Ms = p50Ms;
+        this.p90Ms = p90Ms;
+        this.p95Ms = p95Ms;
+        this.p99Ms = p99Ms;
+        this.p999Ms = p999Ms;
+        this.maxMs = maxMs;
+    }
+
+    /**
+     * Summarise a histogram of latencies recorded in microseconds
+     */
+    public static LatencySummary fromHistogram(Histogram micros) {
+        if (micros.getTotalCount() == 0) {
+            return new LatencySummary(micros, 0, 0, 0, 0, 0, 0, 0, 0, 0);
+        }
+        return new LatencySummary(micros, micros.getTotalCount(), toMs(micros.getMinValue()), micros.getMean() / 1000.0,
+                toMs(micros.getValueAtPercentile(50)), toMs(micros.getValueAtPercentile(90)),
+                toMs(micros.getValueAtPercentile(95)), toMs(micros.getValueAtPercentile(99)),
+                toMs(micros.getValueAtPercentile(99.9)), toMs(micros.getMaxValue()));
+    }
+
+    /**
+     * Latency at an arbitrary percentile (0 - 100) in milliseconds
+     */
+    public double getPercentileMs(double percentile) {
+        return count == 0 ? 0 : toMs(histogram.getValueAtPercentile(percentile));
+    }
+
+    private static double toMs(long micros) {
+        return micros / 1000.0;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getMinMs() {
+        return minMs;
+    }
+
+    public double getMeanMs() {
+        return meanMs;
+    }
+
+    public double getP50Ms() {
+        return p50Ms;
+    }
+
+    public double getP90Ms() {
+        return p90Ms;
+    }
+
+    public double getP95Ms() {
+        return p95Ms;
+    }
+
+    public double getP99Ms() {
+        return p99Ms;
+    }
+
+    public double getP999Ms() {
+        return p999Ms;
+    }
+
+    public double getMaxMs() {
+        return maxMs;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("min=%.1fms, mean=%.1fms, p50=%.1fms, p90=%.1fms, p95=%.1fms, p99=%.1fms, "
+                + "p99.9=%.1fms, max=%.1fms", minMs, meanMs, p50Ms, p90Ms, p95Ms, p99Ms, p999Ms, maxMs);
+    }
+}
@@ -0,0 +1,87 @@
+package framework.performance;
+
+import framework.config.ConfigManager;
+import framework.config.ConfigSnapshot;
+
+import java.time.Duration;
+
+/**
+ * Load shape for a closed-model load test: concurrent workers, ramp-up and total duration
+ * Defaults come from the performance.* configuration keys
+ */
+public final class LoadProfile {
+    private final int threads;
+    private final Duration rampUp;
+    private final Duration duration;
+    private final long maxResponseTimeMs;
+
+    public LoadProfile(int threads, Duration rampUp, Duration duration, long maxResponseTimeMs) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Load test needs at least one thread");
+        }
+        if (rampUp.compareTo(duration) > 0) {
+            throw new IllegalArgumentException("Ramp-up " + rampUp + " is longer than the test duration " + duration);
+        }
+        this.threads = threads;
+        this.rampUp = rampUp;
+        this.duration = duration;
+        this.maxResponseTimeMs = maxResponseTimeMs;
+    }
+
+    /**
+     * Build a profile from performance.concurrent.threads, performance.ramp.up.time (seconds),
+     * performance.load.test.duration (seconds) and performance.max.response.time (ms)
+     */
+    public static LoadProfile fromConfig() {
+        ConfigSnapshot config = ConfigManager.getInstance().getSnapshot();
+        return new LoadProfile(
+                config.getInt("performance.concurrent.threads", 10),
+                Duration.ofSeconds(config.getLong("performance.ramp.up.time", 0)),
+                Duration.ofSeconds(config.getLong("performance.load.test.duration", 60)),
+                config.getLong("performance.max.response.time", 5000));
+    }
+
+    /**
+     * Copy of this profile with a different duration, ramp-up scaled to fit
+     */
+    public LoadProfile withDuration(Duration newDuration) {
+        Duration scaledRampUp = rampUp.compareTo(newDuration) > 0 ? newDuration : rampUp;
+        return new LoadProfile(threads, scaledRampUp, newDuration, maxResponseTimeMs);
+    }
+
+    /**
+     * Copy of this profile with a different number of workers
+     */
+    public LoadProfile withThreads(int newThreads) {
+        return new LoadProfile(newThreads, rampUp, duration, maxResponseTimeMs);
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public Duration getRampUp() {
+        return rampUp;
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    /**
+     * Steady-state window: the part of the run after all workers have started
+     */
+    public Duration getSteadyState() {
+        return duration.minus(rampUp);
+    }
+
+    public long getMaxResponseTimeMs() {
+        return maxResponseTimeMs;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("threads=%d, ramp-up=%ds, duration=%ds, max response time=%dms",
+                threads, rampUp.getSeconds(), duration.getSeconds(), maxResponseTimeMs);
+    }
+}
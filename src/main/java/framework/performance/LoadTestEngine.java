@@ -0,0 +1,199 @@
+package framework.performance;
+
+import framework.core.RequestBuilder;
+import framework.reporting.ExtentReportManager;
+import framework.utils.VirtualThreadSupport;
+import io.restassured.http.Method;
+import io.restassured.response.Response;
+import org.HdrHistogram.Histogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Closed-model load generator
+ * Starts the profile's workers evenly over the ramp-up period; each worker repeats its task
+ * back-to-back until the test duration has elapsed. Functional request definitions are reused
+ * by passing a RequestBuilder template, which is cloned per worker
+ */
+public class LoadTestEngine {
+    private static final Logger logger = LoggerFactory.getLogger(LoadTestEngine.class);
+    private static final long SHUTDOWN_GRACE_MS = 30000;
+
+    private final LoadProfile profile;
+
+    public LoadTestEngine() {
+        this(LoadProfile.fromConfig());
+    }
+
+    public LoadTestEngine(LoadProfile profile) {
+        this.profile = profile;
+    }
+
+    /**
+     * Run a request template under load; each worker sends from its own copy of the builder
+     */
+    public LoadTestResult run(String name, RequestBuilder template, Method method) {
+        return run(name, () -> {
+            RequestBuilder builder = template.clone();
+            return () -> builder.execute(method);
+        });
+    }
+
+    /**
+     * Run a task under load; the factory is called once per worker so tasks can hold per-worker state
+     */
+    public LoadTestResult run(String name, Supplier<LoadTask> taskFactory) {
+        int threads = profile.getThreads();
+        logger.info("Starting load test '{}' - {}", name, profile);
+
+        LatencyMetrics.Window window = LatencyMetrics.currentWindow();
+        List<LoadTask> tasks = new ArrayList<>(threads);
+        for (int i = 0; i < threads; i++) {
+            tasks.add(inWindow(window, taskFactory.get()));
+        }
+
+        long startNanos = System.nanoTime();
+        long rampUpNanos = profile.getRampUp().toNanos();
+        long steadyStartNanos = startNanos + rampUpNanos;
+        long endNanos = startNanos + profile.getDuration().toNanos();
+
+        List<WorkerStats> workerStats = new ArrayList<>(threads);
+        List<Future<?>> futures = new ArrayList<>(threads);
+        ExecutorService executor = VirtualThreadSupport.newThreadPerTaskExecutor("load-worker");
+        try {
+            for (int i = 0; i < threads; i++) {
+                WorkerStats stats = new WorkerStats();
+                workerStats.add(stats);
+                LoadTask task = tasks.get(i);
+                long workerStartNanos = startNanos + rampUpNanos * i / threads;
+                futures.add(executor.submit(() -> runWorker(task, stats, workerStartNanos, steadyStartNanos, endNanos)));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Load test interrupted: " + name, e);
+        } catch (Exception e) {
+            throw new IllegalStateException("Load test worker failed: " + name, e);
+        } finally {
+            executor.shutdownNow();
+            awaitTermination(executor);
+        }
+
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        LoadTestResult result = aggregate(name, workerStats, elapsedMs,
+                TimeUnit.NANOSECONDS.toMillis(endNanos - steadyStartNanos));
+        logger.info("Load test finished - {}", result.toSummary());
+        ExtentReportManager.logInfo("Load test " + result.toSummary());
+        return result;
+    }
+
+    /**
+     * Worker loop: wait for this worker's ramp-up slot, then send requests until the end of the test
+     */
+    private void runWorker(LoadTask task, WorkerStats stats, long workerStartNanos, long steadyStartNanos, long endNanos) {
+        long wait = workerStartNanos - System.nanoTime();
+        if (wait > 0) {
+            LockSupport.parkNanos(wait);
+        }
+        while (!Thread.currentThread().isInterrupted()) {
+            long sendNanos = System.nanoTime();
+            if (sendNanos >= endNanos) {
+                break;
+            }
+            int status;
+            try {
+                Response response = task.execute();
+                status = response != null ? response.getStatusCode() : 0;
+            } catch (Exception e) {
+                logger.debug("Load test request failed", e);
+                status = 0;
+            }
+            long latencyNanos = System.nanoTime() - sendNanos;
+            stats.record(latencyNanos, status, sendNanos >= steadyStartNanos,
+                    latencyNanos > TimeUnit.MILLISECONDS.toNanos(profile.getMaxResponseTimeMs()));
+        }
+    }
+
+    /**
+     * Record the task's calls into the scenario's latency window, which worker threads do not inherit
+     */
+    static LoadTask inWindow(LatencyMetrics.Window window, LoadTask task) {
+        return window == null ? task : () -> LatencyMetrics.callInWindow(window, task::execute);
+    }
+
+    private LoadTestResult aggregate(String name, List<WorkerStats> workerStats, long elapsedMs, long steadyStateMs) {
+        Histogram latencies = new Histogram(3);
+        long failed = 0;
+        long slow = 0;
+        long steadyState = 0;
+        Map<Integer, Long> statusCounts = new TreeMap<>();
+        for (WorkerStats stats : workerStats) {
+            latencies.add(stats.latencies);
+            failed += stats.failed;
+            slow += stats.slow;
+            steadyState += stats.steadyState;
+            stats.statusCounts.forEach((status, count) -> statusCounts.merge(status, count, Long::sum));
+        }
+        return new LoadTestResult(name, latencies.getTotalCount(), failed, slow, elapsedMs, steadyState, steadyStateMs,
+                LatencySummary.fromHistogram(latencies), statusCounts);
+    }
+
+    private static void awaitTermination(ExecutorService executor) {
+        try {
+            if (!executor.awaitTermination(SHUTDOWN_GRACE_MS, TimeUnit.MILLISECONDS)) {
+                logger.warn("Load test workers did not stop within {}ms", SHUTDOWN_GRACE_MS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public LoadProfile getProfile() {
+        return profile;
+    }
+
+    /**
+     * One iteration of load: typically a single request
+     */
+    @FunctionalInterface
+    public interface LoadTask {
+        Response execute() throws Exception;
+    }
+
+    /**
+     * Per-worker histogram and counters, only touched by the owning worker until aggregation
+     */
+    private static final class WorkerStats {
+        private final Histogram latencies = new Histogram(3);
+        private long failed;
+        private long slow;
+        private long steadyState;
+        private final Map<Integer, Long> statusCounts = new TreeMap<>();
+
+        void record(long latencyNanos, int status, boolean inSteadyState, boolean overLimit) {
+            latencies.recordValue(TimeUnit.NANOSECONDS.toMicros(latencyNanos));
+            if (status == 0 || status >= 400) {
+                failed++;
+            }
+            if (overLimit) {
+                slow++;
+            }
+            if (inSteadyState) {
+                steadyState++;
+            }
+            statusCounts.merge(status, 1L, Long::sum);
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package framework.performance;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Throughput and latency results of a load test run
+ * For open-model runs, latency is measured from actual send (uncorrected) and corrected latency
+ * from the intended send time, which includes any queueing behind a slow server
+ */
+public final class LoadTestResult {
+    private final String name;
+    private final long totalRequests;
+    private final long failedRequests;
+    private final long slowRequests;
+    private final long elapsedMs;
+    private final long steadyStateRequests;
+    private final long steadyStateMs;
+    private final LatencySummary latency;
+    private final LatencySummary correctedLatency;
+    private final double targetRate;
+    private final long lateStarts;
+    private final Map<Integer, Long> statusCounts;
+
+    LoadTestResult(String name, long totalRequests, long failedRequests, long slowRequests, long elapsedMs,
+                   long steadyStateRequests, long steadyStateMs, LatencySummary latency,
+                   Map<Integer, Long> statusCounts) {
+        this(name, totalRequests, failedRequests, slowRequests, elapsedMs, steadyStateRequests, steadyStateMs,
+                latency, latency, 0, 0, statusCounts);
+    }
+
+    LoadTestResult(String name, long totalRequests, long failedRequests, long slowRequests, long elapsedMs,
+                   long steadyStateRequests, long steadyStateMs, LatencySummary latency,
+                   LatencySummary correctedLatency, double targetRate, long lateStarts,
+                   Map<Integer, Long> statusCounts) {
+        this.name = name;
+        this.totalRequests = totalRequests;
+        this.failedRequests = failedRequests;
+        this.slowRequests = slowRequests;
+        this.elapsedMs = elapsedMs;
+        this.steadyStateRequests = steadyStateRequests;
+        this.steadyStateMs = steadyStateMs;
+        this.latency = latency;
+        this.correctedLatency = correctedLatency;
+        this.targetRate = targetRate;
+        this.lateStarts = lateStarts;
+        this.statusCounts = Collections.unmodifiableMap(statusCounts);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getTotalRequests() {
+        return totalRequests;
+    }
+
+    /**
+     * Requests that threw or returned a 4xx/5xx status
+     */
+    public long getFailedRequests() {
+        return failedRequests;
+    }
+
+    /**
+     * Requests slower than the profile's max response time
+     */
+    public long getSlowRequests() {
+        return slowRequests;
+    }
+
+    public long getElapsedMs() {
+        return elapsedMs;
+    }
+
+    /**
+     * Fraction of requests that failed (0.0 - 1.0)
+     */
+    public double getErrorRate() {
+        return totalRequests == 0 ? 0.0 : (double) failedRequests / totalRequests;
+    }
+
+    /**
+     * Requests per second over the whole run
+     */
+    public double getThroughput() {
+        return elapsedMs == 0 ? 0.0 : totalRequests * 1000.0 / elapsedMs;
+    }
+
+    /**
+     * Requests per second once all workers were running
+     */
+    public double getSteadyStateThroughput() {
+        return steadyStateMs == 0 ? getThroughput() : steadyStateRequests * 1000.0 / steadyStateMs;
+    }
+
+    /**
+     * Latency measured from when each request was actually sent
+     */
+    public LatencySummary getLatency() {
+        return latency;
+    }
+
+    /**
+     * Latency measured from when each request was scheduled to be sent (coordinated-omission corrected)
+     * Same as getLatency() for closed-model runs
+     */
+    public LatencySummary getCorrectedLatency() {
+        return correctedLatency;
+    }
+
+    /**
+     * True if this was an open-model (constant arrival rate) run
+     */
+    public boolean isOpenModel() {
+        return targetRate > 0;
+    }
+
+    /**
+     * Target requests per second for open-model runs, 0 otherwise
+     */
+    public double getTargetRate() {
+        return targetRate;
+    }
+
+    /**
+     * Open-model requests that started noticeably after their scheduled time
+     */
+    public long getLateStarts() {
+        return lateStarts;
+    }
+
+    /**
+     * Number of responses per HTTP status code (0 for requests that threw)
+     */
+    public Map<Integer, Long> getStatusCounts() {
+        return statusCounts;
+    }
+
+    /**
+     * Get the result formatted for logging and reporting
+     */
+    public String toSummary() {
+        if (isOpenModel()) {
+            return String.format("%s: target=%.1f req/s, achieved=%.1f req/s, requests=%d, failed=%d (%.2f%%), "
+                            + "slow=%d, late starts=%d, corrected latency %s, uncorrected latency %s, statuses=%s",
+                    name, targetRate, getThroughput(), totalRequests, failedRequests, getErrorRate() * 100,
+                    slowRequests, lateStarts, correctedLatency, latency, statusCounts);
+        }
+        return String.format("%s: requests=%d, failed=%d (%.2f%%), slow=%d, throughput=%.1f req/s "
+                        + "(steady state %.1f req/s), latency %s, statuses=%s",
+                name, totalRequests, failedRequests, getErrorRate() * 100, slowRequests, getThroughput(),
+                getSteadyStateThroughput(), latency, statusCounts);
+    }
+
+    @Override
+    public String toString() {
+        return toSummary();
+    }
+}
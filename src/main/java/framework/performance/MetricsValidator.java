@@ -0,0 +1,152 @@
+package framework.performance;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Fluent assertions over aggregated latency, throughput and error metrics
+ * Works on the per-endpoint histograms recorded by LatencyMetrics (process-wide or for the current
+ * scenario's window) or on a load test result
+ */
+public class MetricsValidator {
+    private static final Logger logger = LoggerFactory.getLogger(MetricsValidator.class);
+    private final String name;
+    private final long count;
+    private final double errorRate;
+    private final double throughput;
+    private final LatencySummary latency;
+
+    private MetricsValidator(String name, long count, double errorRate, double throughput, LatencySummary latency) {
+        this.name = name;
+        this.count = count;
+        this.errorRate = errorRate;
+        this.throughput = throughput;
+        this.latency = latency;
+    }
+
+    /**
+     * Validate the metrics recorded for one method and endpoint template
+     */
+    public static MetricsValidator forEndpoint(String method, String endpoint) {
+        LatencyMetrics.EndpointStats stats = LatencyMetrics.getStats(method, endpoint);
+        assertThat(stats)
+                .as("No requests recorded for " + LatencyMetrics.key(method, endpoint))
+                .isNotNull();
+        return forStats(stats);
+    }
+
+    /**
+     * Validate the metrics the current scenario recorded for one method and endpoint template
+     * since its latency window started, unaffected by scenarios running in parallel
+     */
+    public static MetricsValidator forScenario(String method, String endpoint) {
+        LatencyMetrics.Window window = LatencyMetrics.currentWindow();
+        assertThat(window)
+                .as("No latency window started for this scenario")
+                .isNotNull();
+        return forWindow(window, method, endpoint);
+    }
+
+    /**
+     * Validate the metrics recorded in a latency window for one method and endpoint template
+     */
+    public static MetricsValidator forWindow(LatencyMetrics.Window window, String method, String endpoint) {
+        LatencyMetrics.EndpointStats stats = window.getStats(method, endpoint);
+        assertThat(stats)
+                .as("No requests recorded in this scenario for " + LatencyMetrics.key(method, endpoint))
+                .isNotNull();
+        return forStats(stats);
+    }
+
+    /**
+     * Validate the metrics recorded across all endpoints
+     */
+    public static MetricsValidator forAllEndpoints() {
+        return forStats(LatencyMetrics.getTotalStats());
+    }
+
+    /**
+     * Validate the metrics of a load test; open-model runs are judged on corrected latency
+     */
+    public static MetricsValidator forLoadTest(LoadTestResult result) {
+        return new MetricsValidator(result.getName(), result.getTotalRequests(), result.getErrorRate(),
+                result.getThroughput(), result.getCorrectedLatency());
+    }
+
+    private static MetricsValidator forStats(LatencyMetrics.EndpointStats stats) {
+        return new MetricsValidator(stats.getKey(), stats.getCount(), stats.getErrorRate(), stats.getThroughput(),
+                stats.getLatency());
+    }
+
+    /**
+     * Validate that at least the given number of requests were recorded
+     */
+    public MetricsValidator requestCountAtLeast(long minRequests) {
+        assertThat(count)
+                .as("Request count for " + name)
+                .isGreaterThanOrEqualTo(minRequests);
+
+        logger.info("Request count validation passed for {}: {} (min: {})", name, count, minRequests);
+        return this;
+    }
+
+    /**
+     * Validate that latency at a percentile (0 - 100) is at or below a limit
+     */
+    public MetricsValidator percentileBelow(double percentile, long maxTimeInMs) {
+        requestCountAtLeast(1);
+        double actualMs = latency.getPercentileMs(percentile);
+        assertThat(actualMs)
+                .as("p" + formatPercentile(percentile) + " latency for " + name)
+                .isLessThanOrEqualTo(maxTimeInMs);
+
+        logger.info("Latency validation passed for {}: p{}={}ms (max: {}ms)",
+                name, formatPercentile(percentile), actualMs, maxTimeInMs);
+        return this;
+    }
+
+    /**
+     * Validate that the slowest request is at or below a limit
+     */
+    public MetricsValidator maxLatencyBelow(long maxTimeInMs) {
+        return percentileBelow(100, maxTimeInMs);
+    }
+
+    /**
+     * Validate throughput in requests per second
+     */
+    public MetricsValidator throughputAtLeast(double minRequestsPerSecond) {
+        assertThat(throughput)
+                .as("Throughput (req/s) for " + name)
+                .isGreaterThanOrEqualTo(minRequestsPerSecond);
+
+        logger.info("Throughput validation passed for {}: {} req/s (min: {} req/s)",
+                name, String.format("%.1f", throughput), minRequestsPerSecond);
+        return this;
+    }
+
+    /**
+     * Validate the error rate, given as a percentage (0.1 means 0.1%)
+     */
+    public MetricsValidator errorRateBelow(double maxPercent) {
+        requestCountAtLeast(1);
+        double actualPercent = errorRate * 100;
+        assertThat(actualPercent)
+                .as("Error rate (%) for " + name)
+                .isLessThanOrEqualTo(maxPercent);
+
+        logger.info("Error rate validation passed for {}: {}% (max: {}%)",
+                name, String.format("%.3f", actualPercent), maxPercent);
+        return this;
+    }
+
+    public LatencySummary getLatency() {
+        return latency;
+    }
+
+    private static String formatPercentile(double percentile) {
+        return percentile == Math.rint(percentile) ? String.valueOf((long) percentile) : String.valueOf(percentile);
+    }
+}
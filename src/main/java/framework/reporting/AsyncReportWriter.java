@@ -0,0 +1,186 @@
+package framework.reporting;
+
+import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.Status;
+import framework.config.ConfigSnapshot;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Moves Extent report writes off the request threads
+ * Log events (including building their HTML) are queued and applied to their ExtentTest by a single
+ * daemon writer thread, so events keep their submission order. When the queue is full the overflow
+ * policy decides whether the caller blocks, the event is dropped, or the caller writes it itself
+ * Only INFO entries are ever dropped; entries that carry a status always wait for space, so a
+ * report never shows a failed test as passed. Every write holds the same lock, whichever thread runs it
+ */
+final class AsyncReportWriter {
+    private static final Logger logger = LoggerFactory.getLogger(AsyncReportWriter.class);
+
+    /**
+     * What to do with an event when the queue is full
+     */
+    enum OverflowPolicy {
+        /** Wait for space in the queue (no events lost) */
+        BLOCK,
+        /** Discard INFO events and count them; other events wait for space */
+        DROP,
+        /** Write the event on the calling thread under the write lock (may appear out of order) */
+        CALLER_RUNS
+    }
+
+    private static final Runnable STOP = () -> { };
+    private static final long STOP_GRACE_MS = 1000;
+
+    private final BlockingQueue<Runnable> queue;
+    private final Object writeLock = new Object();
+    private final Thread writerThread;
+    private volatile boolean closed;
+    private final OverflowPolicy overflowPolicy;
+    private final long drainTimeoutMs;
+    private final LongAdder written = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder callerRuns = new LongAdder();
+
+    AsyncReportWriter(int capacity, OverflowPolicy overflowPolicy, long drainTimeoutMs) {
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.overflowPolicy = overflowPolicy;
+        this.drainTimeoutMs = drainTimeoutMs;
+        this.writerThread = new Thread(this::writeLoop, "extent-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+        logger.info("Async report writer started - capacity={}, overflow policy={}", capacity, overflowPolicy);
+    }
+
+    /**
+     * Build a writer from reporting.async.queue.capacity, reporting.async.overflow.policy and
+     * reporting.async.drain.timeout (ms); returns null when reporting.async.enabled is false
+     */
+    static AsyncReportWriter fromConfig(ConfigSnapshot config) {
+        if (!config.getBoolean("reporting.async.enabled", true)) {
+            return null;
+        }
+        String policy = config.getString("reporting.async.overflow.policy", OverflowPolicy.BLOCK.name());
+        return new AsyncReportWriter(
+                config.getInt("reporting.async.queue.capacity", 10000),
+                OverflowPolicy.valueOf(policy.trim().toUpperCase()),
+                config.getLong("reporting.async.drain.timeout", 60000));
+    }
+
+    /**
+     * Queue an action against a test; the action runs on the writer thread
+     * status is what the action logs, or null if it is not a log entry; only INFO entries may be dropped
+     */
+    void submit(ExtentTest test, Status status, Consumer<ExtentTest> action) {
+        Runnable event = () -> {
+            action.accept(test);
+            written.increment();
+        };
+        if (closed) {
+            write(event);
+            return;
+        }
+        if (queue.offer(event)) {
+            return;
+        }
+        OverflowPolicy policy = overflowPolicy == OverflowPolicy.DROP && status != Status.INFO
+                ? OverflowPolicy.BLOCK : overflowPolicy;
+        switch (policy) {
+            case DROP:
+                dropped.increment();
+                logger.debug("Report queue full, dropped event for test: {}", test.getModel().getName());
+                break;
+            case CALLER_RUNS:
+                callerRuns.increment();
+                write(event);
+                break;
+            case BLOCK:
+            default:
+                try {
+                    queue.put(event);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    dropped.increment();
+                }
+                break;
+        }
+    }
+
+    /**
+     * Write every event queued so far, then stop the writer thread and wait for it to exit
+     * Events submitted while closing are written by the closing thread. Returns false if the
+     * drain timeout elapsed first; the events still queued are then counted as dropped
+     */
+    boolean close() {
+        closed = true;
+        long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(drainTimeoutMs);
+        try {
+            if (queue.offer(STOP, drainTimeoutMs, TimeUnit.MILLISECONDS)) {
+                writerThread.join(Math.max(1, TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime())));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (writerThread.isAlive()) {
+            writerThread.interrupt();
+            try {
+                // Let the event being written finish before the report is flushed
+                writerThread.join(STOP_GRACE_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            queue.remove(STOP);
+            int abandoned = queue.size();
+            queue.clear();
+            dropped.add(abandoned);
+            logger.warn("Report writer did not drain within {}ms, {} events dropped", drainTimeoutMs, abandoned);
+            return false;
+        }
+        Runnable event;
+        while ((event = queue.poll()) != null) {
+            if (event != STOP) {
+                write(event);
+            }
+        }
+        return true;
+    }
+
+    private void writeLoop() {
+        while (true) {
+            try {
+                Runnable event = queue.take();
+                if (event == STOP) {
+                    return;
+                }
+                write(event);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void write(Runnable event) {
+        synchronized (writeLock) {
+            try {
+                event.run();
+            } catch (RuntimeException e) {
+                logger.warn("Failed to write report event", e);
+            }
+        }
+    }
+
+    /**
+     * Get writer statistics formatted for logging and reporting
+     */
+    String getStatsSummary() {
+        return String.format("written=%d, dropped=%d, caller runs=%d, queued=%d, overflow policy=%s",
+                written.sum(), dropped.sum(), callerRuns.sum(), queue.size(), overflowPolicy);
+    }
+}
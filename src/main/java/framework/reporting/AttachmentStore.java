@@ -0,0 +1,117 @@
+package framework.reporting;
+
+import framework.config.ConfigManager;
+import framework.config.ConfigSnapshot;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Content-addressed side files for large request/response bodies
+ * Bodies above reporting.attachment.threshold characters are written once per SHA-256 hash under
+ * target/extent-reports/attachments/ (gzip-compressed when reporting.attachment.gzip is true) and
+ * linked from the report instead of being inlined
+ */
+public final class AttachmentStore {
+    private static final Logger logger = LoggerFactory.getLogger(AttachmentStore.class);
+    private static final Path ATTACHMENTS_DIR = Paths.get("target", "extent-reports", "attachments");
+    /** Attachment links are relative to the report HTML in target/extent-reports/ */
+    private static final String LINK_PREFIX = "attachments/";
+    private static final Set<String> stored = ConcurrentHashMap.newKeySet();
+    private static final LongAdder written = new LongAdder();
+    private static final LongAdder deduplicated = new LongAdder();
+    private static final LongAdder bytesWritten = new LongAdder();
+
+    private AttachmentStore() {
+    }
+
+    /**
+     * Check if a body is large enough to be stored as an attachment instead of inlined
+     */
+    public static boolean shouldSpill(String body) {
+        if (body == null) {
+            return false;
+        }
+        ConfigSnapshot config = ConfigManager.getInstance().getSnapshot();
+        return config.getBoolean("reporting.attachment.enabled", true)
+                && body.length() > config.getInt("reporting.attachment.threshold", 8192);
+    }
+
+    /**
+     * Store a body and return its link relative to the report, or null if it could not be written
+     * Identical bodies share one file
+     */
+    public static String store(String body) {
+        boolean gzip = ConfigManager.getInstance().getSnapshot().getBoolean("reporting.attachment.gzip", false);
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        String fileName = sha256(bytes) + extensionFor(body) + (gzip ? ".gz" : "");
+
+        if (!stored.add(fileName)) {
+            deduplicated.increment();
+            return LINK_PREFIX + fileName;
+        }
+        Path target = ATTACHMENTS_DIR.resolve(fileName);
+        if (Files.exists(target)) {
+            deduplicated.increment();
+            ReportEventStream.attachment(target);
+            return LINK_PREFIX + fileName;
+        }
+        try {
+            Files.createDirectories(ATTACHMENTS_DIR);
+            // Write to a temp file and move it into place so a link never points at a partial file
+            Path temp = Files.createTempFile(ATTACHMENTS_DIR, fileName, ".tmp");
+            try (OutputStream out = gzip ? new GZIPOutputStream(Files.newOutputStream(temp))
+                    : Files.newOutputStream(temp)) {
+                out.write(bytes);
+            }
+            bytesWritten.add(Files.size(temp));
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            written.increment();
+            ReportEventStream.attachment(target);
+            return LINK_PREFIX + fileName;
+        } catch (IOException e) {
+            stored.remove(fileName);
+            logger.warn("Failed to store report attachment {}", fileName, e);
+            return null;
+        }
+    }
+
+    private static String extensionFor(String body) {
+        String trimmed = body.trim();
+        return trimmed.startsWith("{") || trimmed.startsWith("[") ? ".json" : ".txt";
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Get attachment statistics formatted for logging and reporting
+     */
+    public static String getStatsSummary() {
+        return String.format("files=%d, deduplicated=%d, bytes written=%d",
+                written.sum(), deduplicated.sum(), bytesWritten.sum());
+    }
+}
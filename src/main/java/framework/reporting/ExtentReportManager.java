@@ -14,14 +14,18 @@ import org.slf4j.LoggerFactory;
 import java.io.File;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.function.Consumer;
 
 /**
  * Manages Extent Reports for comprehensive test reporting
+ * Log calls are handed to an async writer (see reporting.async.* settings) so building and writing
+ * report entries does not add to the time measured on request threads
  */
 public class ExtentReportManager {
     private static final Logger logger = LoggerFactory.getLogger(ExtentReportManager.class);
     private static ExtentReports extentReports;
     private static final ThreadLocal<ExtentTest> extentTest = new ThreadLocal<>();
+    private static volatile AsyncReportWriter reportWriter;
     private static final String REPORTS_PATH = "target/extent-reports/";
     private static final String REPORT_NAME = "API-Test-Report";
 
@@ -39,7 +43,9 @@ public class ExtentReportManager {
             
             extentReports = new ExtentReports();
             extentReports.attachReporter(sparkReporter);
+            ReportEventStream.open();
             setSystemInformation();
+            reportWriter = AsyncReportWriter.fromConfig(ConfigManager.getInstance().getSnapshot());
             
             logger.info("Extent Reports initialized at: {}", reportPath);
         }
@@ -48,7 +54,7 @@ public class ExtentReportManager {
     /**
      * Configure Spark Reporter settings
      */
-    private static void configureSparkReporter(ExtentSparkReporter sparkReporter) {
+    static void configureSparkReporter(ExtentSparkReporter sparkReporter) {
         sparkReporter.config().setTheme(Theme.STANDARD);
         sparkReporter.config().setDocumentTitle("API Test Automation Report");
         sparkReporter.config().setReportName("API Test Execution Report");
@@ -70,14 +76,31 @@ public class ExtentReportManager {
     private static void setSystemInformation() {
         ConfigManager configManager = ConfigManager.getInstance();
         
-        extentReports.setSystemInfo("Environment", configManager.getCurrentEnvironment().getName());
-        extentReports.setSystemInfo("Base URL", configManager.getBaseUrl());
-        extentReports.setSystemInfo("Auth Type", configManager.getAuthType());
-        extentReports.setSystemInfo("Java Version", System.getProperty("java.version"));
-        extentReports.setSystemInfo("OS", System.getProperty("os.name"));
-        extentReports.setSystemInfo("User", System.getProperty("user.name"));
-        extentReports.setSystemInfo("Test Framework", "Cucumber + RestAssured + TestNG");
-        extentReports.setSystemInfo("Report Generated", getCurrentTimestamp());
+        putSystemInfo("Environment", configManager.getCurrentEnvironment().getName());
+        putSystemInfo("Base URL", configManager.getBaseUrl());
+        putSystemInfo("Auth Type", configManager.getAuthType());
+        putSystemInfo("Java Version", System.getProperty("java.version"));
+        putSystemInfo("OS", System.getProperty("os.name"));
+        putSystemInfo("User", System.getProperty("user.name"));
+        putSystemInfo("Test Framework", "Cucumber + RestAssured + TestNG");
+        putSystemInfo("Report Generated", getCurrentTimestamp());
+    }
+
+    /**
+     * Set a system info entry and record it in the shard event stream
+     */
+    private static void putSystemInfo(String key, String value) {
+        extentReports.setSystemInfo(key, value);
+        ReportEventStream.systemInfo(key, value);
+    }
+
+    /**
+     * Add or update system information in the report
+     */
+    public static void addSystemInfo(String key, String value) {
+        if (extentReports != null) {
+            putSystemInfo(key, value);
+        }
     }
 
     /**
@@ -85,6 +108,7 @@ public class ExtentReportManager {
      */
     public static void createTest(String testName, String description) {
         ExtentTest test = extentReports.createTest(testName, description);
+        ReportEventStream.testCreated(test, testName, description);
         extentTest.set(test);
         logger.debug("Test created in Extent Report: {}", testName);
     }
@@ -93,92 +117,79 @@ public class ExtentReportManager {
      * Log info message
      */
     public static void logInfo(String message) {
-        if (extentTest.get() != null) {
-            extentTest.get().log(Status.INFO, message);
-        }
+        write(Status.INFO, test -> log(test, Status.INFO, message));
     }
 
     /**
      * Log pass message
      */
     public static void logPass(String message) {
-        if (extentTest.get() != null) {
-            extentTest.get().log(Status.PASS, message);
-        }
+        write(Status.PASS, test -> log(test, Status.PASS, message));
     }
 
     /**
      * Log fail message
      */
     public static void logFail(String message) {
-        if (extentTest.get() != null) {
-            extentTest.get().log(Status.FAIL, message);
-        }
+        write(Status.FAIL, test -> log(test, Status.FAIL, message));
     }
 
     /**
      * Log warning message
      */
     public static void logWarning(String message) {
-        if (extentTest.get() != null) {
-            extentTest.get().log(Status.WARNING, message);
-        }
+        write(Status.WARNING, test -> log(test, Status.WARNING, message));
     }
 
     /**
      * Log skip message
      */
     public static void logSkip(String message) {
-        if (extentTest.get() != null) {
-            extentTest.get().log(Status.SKIP, message);
-        }
+        write(Status.SKIP, test -> log(test, Status.SKIP, message));
     }
 
     /**
      * Add screenshot to report
      */
     public static void addScreenshot(String screenshotPath) {
-        if (extentTest.get() != null) {
+        write(null, test -> {
             try {
-                extentTest.get().addScreenCaptureFromPath(screenshotPath);
+                test.addScreenCaptureFromPath(screenshotPath);
             } catch (Exception e) {
                 logger.error("Failed to add screenshot to report", e);
             }
-        }
+        });
     }
 
     /**
      * Assign category to test
      */
     public static void assignCategory(String... categories) {
-        if (extentTest.get() != null) {
-            extentTest.get().assignCategory(categories);
-        }
+        write(null, test -> {
+            test.assignCategory(categories);
+            ReportEventStream.categories(test, categories);
+        });
     }
 
     /**
      * Assign author to test
      */
     public static void assignAuthor(String... authors) {
-        if (extentTest.get() != null) {
-            extentTest.get().assignAuthor(authors);
-        }
+        write(null, test -> test.assignAuthor(authors));
     }
 
     /**
      * Add device information
      */
     public static void assignDevice(String deviceName) {
-        if (extentTest.get() != null) {
-            extentTest.get().assignDevice(deviceName);
-        }
+        write(null, test -> test.assignDevice(deviceName));
     }
 
     /**
      * Log API request details
      */
     public static void logApiRequest(String method, String endpoint, String requestBody) {
-        if (extentTest.get() != null) {
+        write(Status.INFO, test -> {
             String requestDetails = String.format(
                     "<b>API Request:</b><br/>" +
                     "<b>Method:</b> %s<br/>" +
@@ -187,17 +198,16 @@ public class ExtentReportManager {
                     "<pre>%s</pre>",
                     method, endpoint, requestBody != null ? requestBody : "No body"
             );
-            extentTest.get().log(Status.INFO, requestDetails);
-        }
+            log(test, Status.INFO, requestDetails);
+        });
     }
 
     /**
      * Log API response details
      */
     public static void logApiResponse(int statusCode, String responseBody, long responseTime) {
-        if (extentTest.get() != null) {
-            Status status = statusCode >= 200 && statusCode < 300 ? Status.PASS : Status.FAIL;
-            
+        Status status = statusCode >= 200 && statusCode < 300 ? Status.PASS : Status.FAIL;
+        write(status, test -> {
             String responseDetails = String.format(
                     "<b>API Response:</b><br/>" +
                     "<b>Status Code:</b> %d<br/>" +
@@ -208,16 +218,39 @@ public class ExtentReportManager {
                     responseBody != null && responseBody.length() > 1000 ? 
                         responseBody.substring(0, 1000) + "... (truncated)" : responseBody
             );
-            extentTest.get().log(status, responseDetails);
+            log(test, status, responseDetails);
+        });
+    }
+
+    /**
+     * Apply a log action to the current thread's test, on the async writer when it is enabled
+     * Anything the action reads must be captured by the caller, since it may run later on another thread
+     * status is what the action logs (null if it logs nothing); the writer may drop INFO entries only
+     */
+    private static void write(Status status, Consumer<ExtentTest> action) {
+        ExtentTest test = extentTest.get();
+        if (test == null) {
+            return;
+        }
+        AsyncReportWriter writer = reportWriter;
+        if (writer != null) {
+            writer.submit(test, status, action);
+        } else {
+            action.accept(test);
         }
     }
 
     /**
      * Create a child test (for step-wise reporting)
+     * To have entries logged to the child appear in merged reports, bind it with setCurrentTest and
+     * log through this class rather than on the returned test directly
      */
     public static ExtentTest createChild(String childTestName) {
-        if (extentTest.get() != null) {
-            return extentTest.get().createNode(childTestName);
+        ExtentTest parent = extentTest.get();
+        if (parent != null) {
+            ExtentTest child = parent.createNode(childTestName);
+            ReportEventStream.nodeCreated(parent, child, childTestName);
+            return child;
         }
         return null;
     }
@@ -227,6 +260,15 @@ public class ExtentReportManager {
      */
     public static synchronized void flushReports() {
         if (extentReports != null) {
+            // Stop the writer before flushing so no entry is written while the report is serialised;
+            // later log calls write synchronously
+            AsyncReportWriter writer = reportWriter;
+            reportWriter = null;
+            if (writer != null) {
+                writer.close();
+                logger.info("Report writer stats: {}", writer.getStatsSummary());
+            }
+            ReportEventStream.close();
             extentReports.flush();
             logger.info("Extent Reports flushed successfully");
         }
@@ -239,6 +281,17 @@ public class ExtentReportManager {
         return extentTest.get();
     }
 
+    /**
+     * Bind an existing extent test to the current thread (e.g. for async callbacks)
+     */
+    public static void setCurrentTest(ExtentTest test) {
+        if (test != null) {
+            extentTest.set(test);
+        } else {
+            extentTest.remove();
+        }
+    }
+
     /**
      * Remove current test from thread local
      */
@@ -272,7 +325,7 @@ public class ExtentReportManager {
      * Add environment details to test
      */
     public static void addEnvironmentDetails() {
-        if (extentTest.get() != null) {
+        write(Status.INFO, test -> {
             ConfigManager configManager = ConfigManager.getInstance();
             String envDetails = String.format(
                     "<b>Environment Details:</b><br/>" +
@@ -283,24 +336,26 @@ public class ExtentReportManager {
                     configManager.getBaseUrl(),
                     configManager.getAuthType()
             );
-            extentTest.get().log(Status.INFO, envDetails);
-        }
+            log(test, Status.INFO, envDetails);
+        });
     }
 
     /**
      * Log test data used
      */
     public static void logTestData(String testDataName, Object testData) {
-        if (extentTest.get() != null) {
+        // Render the data now; the object may change before the writer gets to it
+        String data = testData.toString();
+        write(Status.INFO, test -> {
             String dataDetails = String.format(
                     "<b>Test Data Used:</b><br/>" +
                     "<b>Data Set:</b> %s<br/>" +
                     "<b>Data:</b><br/>" +
                     "<pre>%s</pre>",
-                    testDataName, testData.toString()
+                    testDataName, data
             );
-            extentTest.get().log(Status.INFO, dataDetails);
-        }
+            log(test, Status.INFO, dataDetails);
+        });
     }
 
     /**
@@ -308,7 +363,7 @@ public class ExtentReportManager {
      */
     public static void logApiRequestFormatted(String method, String endpoint, String fullUrl,
                                              String headers, String requestBody) {
-        if (extentTest.get() != null) {
+        write(Status.INFO, test -> {
             StringBuilder requestLog = new StringBuilder();
             requestLog.append("<h4 style='color: #007bff; margin: 10px 0;'>🔵 API Request</h4>");
             requestLog.append("<div style='background-color: #f8f9fa; padding: 15px; border-radius: 5px; border-left: 4px solid #007bff; margin: 10px 0;'>");
@@ -328,13 +383,13 @@ public class ExtentReportManager {
                 requestLog.append("</div>");
                 
                 // Log the request body as a separate code block for better formatting
-                extentTest.get().log(Status.INFO, requestLog.toString());
-                extentTest.get().log(Status.INFO, MarkupHelper.createCodeBlock(requestBody, CodeLanguage.JSON));
+                log(test, Status.INFO, requestLog.toString());
+                log(test, Status.INFO, bodyMarkup(requestBody));
             } else {
                 requestLog.append("</div>");
-                extentTest.get().log(Status.INFO, requestLog.toString());
+                log(test, Status.INFO, requestLog.toString());
             }
-        }
+        });
     }
 
     /**
@@ -342,8 +397,8 @@ public class ExtentReportManager {
      */
     public static void logApiResponseFormatted(int statusCode, String statusLine, long responseTime,
                                               String headers, String responseBody) {
-        if (extentTest.get() != null) {
-            Status logStatus = statusCode >= 200 && statusCode < 300 ? Status.PASS : Status.FAIL;
+        Status logStatus = statusCode >= 200 && statusCode < 300 ? Status.PASS : Status.FAIL;
+        write(logStatus, test -> {
             String statusColor = statusCode >= 200 && statusCode < 300 ? "#28a745" : "#dc3545";
             
             StringBuilder responseLog = new StringBuilder();
@@ -365,25 +420,46 @@ public class ExtentReportManager {
                 responseLog.append("</div>");
                 
                 // Log the response info first
-                extentTest.get().log(logStatus, responseLog.toString());
+                log(test, logStatus, responseLog.toString());
                 
                 // Then log the response body as a separate formatted code block
-                extentTest.get().log(logStatus, MarkupHelper.createCodeBlock(responseBody, CodeLanguage.JSON));
+                log(test, logStatus, bodyMarkup(responseBody));
             } else {
                 responseLog.append("<br/><em>Empty response body</em>");
                 responseLog.append("</div>");
-                extentTest.get().log(logStatus, responseLog.toString());
+                log(test, logStatus, responseLog.toString());
             }
+        });
+    }
+
+    /**
+     * Log an entry to a test and record it in the shard event stream
+     */
+    private static void log(ExtentTest test, Status status, String markup) {
+        test.log(status, markup);
+        ReportEventStream.log(test, status, markup);
+    }
+
+    /**
+     * Render a body as a code block, or as a link to a side file when it is too large to inline
+     */
+    private static String bodyMarkup(String body) {
+        if (AttachmentStore.shouldSpill(body)) {
+            String link = AttachmentStore.store(body);
+            if (link != null) {
+                return String.format("<a href='%s' target='_blank'>📎 Body (%,d characters)</a>", link, body.length());
+            }
+            int maxLength = ConfigManager.getInstance().getSnapshot().getMaxBodyLength();
+            body = body.substring(0, Math.min(body.length(), maxLength)) + "\n... (truncated)";
         }
+        return MarkupHelper.createCodeBlock(body, CodeLanguage.JSON).getMarkup();
     }
 
     /**
      * Log code block with syntax highlighting
      */
     public static void logCodeBlock(String code, CodeLanguage language, Status status) {
-        if (extentTest.get() != null) {
-            extentTest.get().log(status, MarkupHelper.createCodeBlock(code, language));
-        }
+        write(status, test -> log(test, status, MarkupHelper.createCodeBlock(code, language).getMarkup()));
     }
 
     /**
@@ -397,8 +473,6 @@ public class ExtentReportManager {
      * Log info message with HTML markup support
      */
     public static void logInfoMarkup(String htmlMessage) {
-        if (extentTest.get() != null) {
-            extentTest.get().log(Status.INFO, MarkupHelper.createLabel(htmlMessage, com.aventstack.extentreports.markuputils.ExtentColor.BLUE));
-        }
+        write(Status.INFO, test -> log(test, Status.INFO, MarkupHelper.createLabel(htmlMessage, com.aventstack.extentreports.markuputils.ExtentColor.BLUE).getMarkup()));
     }
 }
\ No newline at end of file
@@ -0,0 +1,226 @@
+package framework.reporting;
+
+import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.Status;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import framework.config.ConfigManager;
+import framework.config.ConfigSnapshot;
+import org.HdrHistogram.Histogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Per-shard, newline-delimited JSON record of everything written to the Extent report
+ * Each JVM (surefire fork or CI node) writes target/report-shards/<shard>.ndjson; ReportMerger
+ * combines the shards into one Extent report and one latency summary. The shard id comes from the
+ * report.shard.id system property or reporting.shard.id, defaulting to host name and process id;
+ * surefire's fork number (report.shard.fork) is appended so forks of one build never share a file
+ * Attachment files are copied to target/report-shards/attachments/ so they travel with the shards
+ */
+public final class ReportEventStream {
+    private static final Logger logger = LoggerFactory.getLogger(ReportEventStream.class);
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    static final Path SHARDS_DIR = Paths.get("target", "report-shards");
+    static final String ATTACHMENTS_DIR_NAME = "attachments";
+
+    static final String TYPE_TEST = "test";
+    static final String TYPE_NODE = "node";
+    static final String TYPE_LOG = "log";
+    static final String TYPE_CATEGORY = "category";
+    static final String TYPE_SYSTEM = "system";
+    static final String TYPE_LATENCY = "latency";
+
+    private static String shardId;
+    private static BufferedWriter writer;
+
+    private ReportEventStream() {
+    }
+
+    /**
+     * Open this shard's event file; does nothing when reporting.shards.enabled is false
+     */
+    static synchronized void open() {
+        ConfigSnapshot config = ConfigManager.getInstance().getSnapshot();
+        if (writer != null || !config.getBoolean("reporting.shards.enabled", true)) {
+            return;
+        }
+        shardId = resolveShardId(config);
+        Path file = SHARDS_DIR.resolve(shardId + ".ndjson");
+        try {
+            Files.createDirectories(SHARDS_DIR);
+            writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+            logger.info("Report events for shard '{}' written to {}", shardId, file);
+        } catch (IOException e) {
+            logger.warn("Failed to open report shard file {}, shard output disabled", file, e);
+        }
+    }
+
+    /**
+     * Record a test being created
+     */
+    static void testCreated(ExtentTest test, String name, String description) {
+        Map<String, Object> event = event(TYPE_TEST);
+        event.put("test", testId(test));
+        event.put("name", name);
+        event.put("description", description);
+        emit(event);
+    }
+
+    /**
+     * Record a child node being created under a test or another node
+     */
+    static void nodeCreated(ExtentTest parent, ExtentTest node, String name) {
+        Map<String, Object> event = event(TYPE_NODE);
+        event.put("test", testId(node));
+        event.put("parent", testId(parent));
+        event.put("name", name);
+        emit(event);
+    }
+
+    /**
+     * Record a log entry (HTML markup) against a test
+     */
+    static void log(ExtentTest test, Status status, String markup) {
+        Map<String, Object> event = event(TYPE_LOG);
+        event.put("test", testId(test));
+        event.put("status", status.name());
+        event.put("markup", markup);
+        emit(event);
+    }
+
+    /**
+     * Record categories assigned to a test
+     */
+    static void categories(ExtentTest test, String... categories) {
+        Map<String, Object> event = event(TYPE_CATEGORY);
+        event.put("test", testId(test));
+        event.put("categories", categories);
+        emit(event);
+    }
+
+    /**
+     * Record a system info entry
+     */
+    static void systemInfo(String key, String value) {
+        Map<String, Object> event = event(TYPE_SYSTEM);
+        event.put("key", key);
+        event.put("value", value);
+        emit(event);
+    }
+
+    /**
+     * Record an endpoint's latency histogram (microseconds) so shards can be merged exactly
+     */
+    public static void latency(String key, long errors, Histogram histogram) {
+        ByteBuffer buffer = ByteBuffer.allocate(histogram.getNeededByteBufferCapacity());
+        int length = histogram.encodeIntoCompressedByteBuffer(buffer);
+        Map<String, Object> event = event(TYPE_LATENCY);
+        event.put("key", key);
+        event.put("errors", errors);
+        event.put("histogram", Base64.getEncoder().encodeToString(Arrays.copyOf(buffer.array(), length)));
+        emit(event);
+    }
+
+    /**
+     * Copy an attachment file next to the shards, so merging on another machine can still link it
+     * Attachments are content-addressed, so a file that is already there is left as it is
+     */
+    static void attachment(Path file) {
+        synchronized (ReportEventStream.class) {
+            if (writer == null) {
+                return;
+            }
+        }
+        Path target = SHARDS_DIR.resolve(ATTACHMENTS_DIR_NAME).resolve(file.getFileName());
+        if (Files.exists(target)) {
+            return;
+        }
+        try {
+            Files.createDirectories(target.getParent());
+            Files.copy(file, target);
+        } catch (FileAlreadyExistsException e) {
+            // Written by another fork in the meantime
+        } catch (IOException e) {
+            logger.warn("Failed to copy attachment {} to the report shards", file, e);
+        }
+    }
+
+    /**
+     * Flush and close this shard's event file
+     */
+    static synchronized void close() {
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.close();
+        } catch (IOException e) {
+            logger.warn("Failed to close report shard file", e);
+        }
+        writer = null;
+    }
+
+    private static Map<String, Object> event(String type) {
+        Map<String, Object> event = new LinkedHashMap<>();
+        event.put("type", type);
+        event.put("shard", shardId);
+        event.put("time", System.currentTimeMillis());
+        return event;
+    }
+
+    private static synchronized void emit(Map<String, Object> event) {
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.write(objectMapper.writeValueAsString(event));
+            writer.newLine();
+        } catch (JsonProcessingException e) {
+            logger.warn("Failed to serialise report event of type {}", event.get("type"), e);
+        } catch (IOException e) {
+            logger.warn("Failed to write report event, shard output disabled", e);
+            close();
+        }
+    }
+
+    private static String testId(ExtentTest test) {
+        return String.valueOf(test.getModel().getId());
+    }
+
+    private static String resolveShardId(ConfigSnapshot config) {
+        String configured = System.getProperty("report.shard.id");
+        if (configured == null || configured.trim().isEmpty()) {
+            configured = config.getString("reporting.shard.id", "");
+        }
+        String base;
+        if (!configured.trim().isEmpty()) {
+            base = configured.trim();
+        } else {
+            String host;
+            try {
+                host = InetAddress.getLocalHost().getHostName();
+            } catch (IOException e) {
+                host = "localhost";
+            }
+            base = host + "-" + ProcessHandle.current().pid();
+        }
+        // Unset outside surefire, or left as the literal placeholder when tests run in-process
+        String fork = System.getProperty("report.shard.fork", "").trim();
+        return fork.matches("\\d+") ? base + "-fork" + fork : base;
+    }
+}
@@ -0,0 +1,243 @@
+package framework.reporting;
+
+import com.aventstack.extentreports.ExtentReports;
+import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.Status;
+import com.aventstack.extentreports.reporter.ExtentSparkReporter;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import framework.performance.LatencySummary;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.DataFormatException;
+
+/**
+ * Combines the per-shard event streams written by ReportEventStream into one Extent report and
+ * one latency summary
+ * Child nodes are replayed under their parent test, and attachment files collected next to the shards
+ * are copied to the output directory; attachment links are relative and content-addressed, so the
+ * merged report links them unchanged
+ * Usage: ReportMerger [shards dir (default target/report-shards)] [output dir (default target/extent-reports)]
+ */
+public final class ReportMerger {
+    private static final Logger logger = LoggerFactory.getLogger(ReportMerger.class);
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final String MERGED_REPORT_NAME = "API-Test-Report-merged.html";
+
+    private final ExtentReports extentReports = new ExtentReports();
+    private final Map<String, ExtentTest> tests = new HashMap<>();
+    private final Map<String, Long> testEndTimes = new HashMap<>();
+    private final Map<String, Map<String, String>> systemInfo = new LinkedHashMap<>();
+    private final Map<String, Histogram> latencies = new TreeMap<>();
+    private final Map<String, Long> latencyErrors = new HashMap<>();
+    private final List<String> shards = new ArrayList<>();
+
+    private ReportMerger(Path reportFile) {
+        ExtentSparkReporter sparkReporter = new ExtentSparkReporter(reportFile.toString());
+        ExtentReportManager.configureSparkReporter(sparkReporter);
+        extentReports.attachReporter(sparkReporter);
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path shardsDir = args.length > 0 ? Paths.get(args[0]) : ReportEventStream.SHARDS_DIR;
+        Path outputDir = args.length > 1 ? Paths.get(args[1]) : Paths.get("target", "extent-reports");
+        merge(shardsDir, outputDir);
+    }
+
+    /**
+     * Merge every *.ndjson shard in a directory, writing the merged report, latency-summary.txt and
+     * latency-merged.hlog to the output directory
+     */
+    public static void merge(Path shardsDir, Path outputDir) throws IOException {
+        List<Path> shardFiles;
+        try (Stream<Path> files = Files.list(shardsDir)) {
+            shardFiles = files.filter(file -> file.getFileName().toString().endsWith(".ndjson"))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+        if (shardFiles.isEmpty()) {
+            throw new IllegalStateException("No report shards found in " + shardsDir);
+        }
+        Files.createDirectories(outputDir);
+
+        ReportMerger merger = new ReportMerger(outputDir.resolve(MERGED_REPORT_NAME));
+        for (Path shardFile : shardFiles) {
+            merger.readShard(shardFile);
+        }
+        merger.finish(outputDir);
+        copyAttachments(shardsDir.resolve(ReportEventStream.ATTACHMENTS_DIR_NAME),
+                outputDir.resolve(ReportEventStream.ATTACHMENTS_DIR_NAME));
+        logger.info("Merged {} report shards into {}", shardFiles.size(), outputDir.resolve(MERGED_REPORT_NAME));
+    }
+
+    private void readShard(Path shardFile) throws IOException {
+        String fileName = shardFile.getFileName().toString();
+        shards.add(fileName.substring(0, fileName.length() - ".ndjson".length()));
+        int lineNumber = 0;
+        try (BufferedReader reader = Files.newBufferedReader(shardFile, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.trim().isEmpty()) {
+                    continue;
+                }
+                try {
+                    apply(objectMapper.readTree(line));
+                } catch (IOException | RuntimeException | DataFormatException e) {
+                    // A shard cut off mid-write (e.g. a killed fork) should not lose the rest of the run
+                    logger.warn("Skipping unreadable event at {}:{}", shardFile, lineNumber, e);
+                }
+            }
+        }
+    }
+
+    private void apply(JsonNode event) throws DataFormatException {
+        String shard = event.path("shard").asText();
+        String testKey = shard + "/" + event.path("test").asText();
+        long time = event.path("time").asLong();
+
+        switch (event.path("type").asText()) {
+            case ReportEventStream.TYPE_TEST:
+                ExtentTest test = extentReports.createTest(event.path("name").asText(),
+                        event.path("description").asText(null));
+                test.getModel().setStartTime(new Date(time));
+                tests.put(testKey, test);
+                testEndTimes.put(testKey, time);
+                break;
+            case ReportEventStream.TYPE_NODE:
+                ExtentTest parent = tests.get(shard + "/" + event.path("parent").asText());
+                if (parent != null) {
+                    ExtentTest node = parent.createNode(event.path("name").asText());
+                    node.getModel().setStartTime(new Date(time));
+                    tests.put(testKey, node);
+                    testEndTimes.put(testKey, time);
+                }
+                break;
+            case ReportEventStream.TYPE_LOG:
+                ExtentTest logTest = tests.get(testKey);
+                if (logTest != null) {
+                    logTest.log(Status.valueOf(event.path("status").asText()), event.path("markup").asText());
+                    testEndTimes.put(testKey, time);
+                }
+                break;
+            case ReportEventStream.TYPE_CATEGORY:
+                ExtentTest categoryTest = tests.get(testKey);
+                if (categoryTest != null) {
+                    List<String> categories = new ArrayList<>();
+                    event.path("categories").forEach(category -> categories.add(category.asText()));
+                    categoryTest.assignCategory(categories.toArray(new String[0]));
+                }
+                break;
+            case ReportEventStream.TYPE_SYSTEM:
+                systemInfo.computeIfAbsent(event.path("key").asText(), key -> new LinkedHashMap<>())
+                        .put(shard, event.path("value").asText());
+                break;
+            case ReportEventStream.TYPE_LATENCY:
+                byte[] encoded = Base64.getDecoder().decode(event.path("histogram").asText());
+                Histogram histogram = Histogram.decodeFromCompressedByteBuffer(ByteBuffer.wrap(encoded), 0);
+                String key = event.path("key").asText();
+                latencies.computeIfAbsent(key, k -> new Histogram(3)).add(histogram);
+                latencyErrors.merge(key, event.path("errors").asLong(), Long::sum);
+                break;
+            default:
+                logger.debug("Ignoring unknown report event type: {}", event.path("type").asText());
+        }
+    }
+
+    private void finish(Path outputDir) throws IOException {
+        tests.forEach((key, test) -> test.getModel().setEndTime(new Date(testEndTimes.get(key))));
+
+        extentReports.setSystemInfo("Shards", String.join(", ", shards));
+        systemInfo.forEach((key, values) -> {
+            if (values.values().stream().distinct().count() == 1) {
+                extentReports.setSystemInfo(key, values.values().iterator().next());
+            } else {
+                values.forEach((shard, value) -> extentReports.setSystemInfo(key + " [" + shard + "]", value));
+            }
+        });
+
+        List<String> summaries = new ArrayList<>();
+        Histogram total = new Histogram(3);
+        long totalErrors = 0;
+        for (Map.Entry<String, Histogram> entry : latencies.entrySet()) {
+            String summary = summarise(entry.getKey(), entry.getValue(), latencyErrors.get(entry.getKey()));
+            summaries.add(summary);
+            extentReports.setSystemInfo("Latency " + entry.getKey(), summary);
+            total.add(entry.getValue());
+            totalErrors += latencyErrors.get(entry.getKey());
+        }
+        if (!latencies.isEmpty()) {
+            summaries.add(summarise("ALL", total, totalErrors));
+        }
+        extentReports.flush();
+
+        Files.write(outputDir.resolve("latency-summary.txt"), summaries, StandardCharsets.UTF_8);
+        writeHistogramLog(outputDir.resolve("latency-merged.hlog"));
+        summaries.forEach(summary -> logger.info("Merged latency {}", summary));
+    }
+
+    /**
+     * Copy attachment files from every shard into the merged report's attachments directory
+     * Files are named by content hash, so one that already exists is the same body and is skipped
+     */
+    private static void copyAttachments(Path sourceDir, Path targetDir) throws IOException {
+        if (!Files.isDirectory(sourceDir) || sourceDir.toAbsolutePath().normalize()
+                .equals(targetDir.toAbsolutePath().normalize())) {
+            return;
+        }
+        List<Path> attachments;
+        try (Stream<Path> files = Files.list(sourceDir)) {
+            attachments = files.filter(Files::isRegularFile).collect(Collectors.toList());
+        }
+        Files.createDirectories(targetDir);
+        int copied = 0;
+        for (Path file : attachments) {
+            Path target = targetDir.resolve(file.getFileName());
+            if (!Files.exists(target)) {
+                Files.copy(file, target);
+                copied++;
+            }
+        }
+        logger.info("Copied {} attachment files to {}", copied, targetDir);
+    }
+
+    private void writeHistogramLog(Path file) throws IOException {
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file), false, "UTF-8")) {
+            HistogramLogWriter writer = new HistogramLogWriter(out);
+            writer.outputLogFormatVersion();
+            writer.outputLegend();
+            for (Map.Entry<String, Histogram> entry : latencies.entrySet()) {
+                Histogram histogram = entry.getValue().copy();
+                histogram.setTag(entry.getKey().replace(' ', '_'));
+                writer.outputIntervalHistogram(histogram);
+            }
+        }
+    }
+
+    private static String summarise(String key, Histogram histogram, long errors) {
+        long count = histogram.getTotalCount();
+        return String.format("%s: count=%d, errors=%d (%.2f%%), latency %s", key, count, errors,
+                count == 0 ? 0.0 : errors * 100.0 / count, LatencySummary.fromHistogram(histogram));
+    }
+}
@@ -104,16 +104,11 @@ public class DataProvider {
     }
 
     /**
-     * Get endpoint data from default endpoints.yaml file
+     * Get an endpoint template from the endpoints.yaml registry
+     * Use EndpointRegistry directly to expand path parameters with the pre-compiled template
      */
     public static String getEndpoint(String endpointName) {
-        Map<String, Object> data = loadYamlData("endpoints.yaml");
-        Object endpoint = data.get(endpointName);
-        if (endpoint == null) {
-            logger.error("Endpoint not found: {}", endpointName);
-            throw new RuntimeException("Endpoint not found: " + endpointName);
-        }
-        return endpoint.toString();
+        return EndpointRegistry.get(endpointName).getTemplate();
     }
 
     /**
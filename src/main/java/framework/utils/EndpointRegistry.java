@@ -0,0 +1,108 @@
+package framework.utils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Named endpoint templates from testData/endpoints.yaml, loaded and compiled once
+ * Nested YAML sections are flattened into dotted names (e.g. external.httpBin). Every template is
+ * validated when the registry loads, so a malformed placeholder fails the suite at startup
+ */
+public final class EndpointRegistry {
+    private static final Logger logger = LoggerFactory.getLogger(EndpointRegistry.class);
+    private static final String ENDPOINTS_FILE = "endpoints.yaml";
+    private static volatile Map<String, UriTemplate> endpoints;
+
+    private EndpointRegistry() {
+    }
+
+    /**
+     * Load and validate every endpoint up front
+     */
+    public static void preload() {
+        logger.info("Endpoint registry loaded with {} endpoints", endpoints().size());
+    }
+
+    /**
+     * Get the compiled template for a named endpoint
+     */
+    public static UriTemplate get(String name) {
+        UriTemplate template = endpoints().get(name);
+        if (template == null) {
+            throw new IllegalArgumentException("Endpoint not found in " + ENDPOINTS_FILE + ": " + name);
+        }
+        return template;
+    }
+
+    /**
+     * Expand a named endpoint with URL-encoded path parameters
+     */
+    public static String expand(String name, Map<String, ?> pathParams) {
+        return get(name).expand(pathParams);
+    }
+
+    /**
+     * Expand a named endpoint with URL-encoded values in placeholder order, e.g. expand("userById", 42)
+     */
+    public static String expand(String name, Object... values) {
+        return get(name).expand(values);
+    }
+
+    public static boolean contains(String name) {
+        return endpoints().containsKey(name);
+    }
+
+    public static Set<String> getNames() {
+        return endpoints().keySet();
+    }
+
+    private static Map<String, UriTemplate> endpoints() {
+        Map<String, UriTemplate> result = endpoints;
+        if (result == null) {
+            synchronized (EndpointRegistry.class) {
+                result = endpoints;
+                if (result == null) {
+                    result = load();
+                    endpoints = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    private static Map<String, UriTemplate> load() {
+        Map<String, UriTemplate> compiled = new LinkedHashMap<>();
+        List<String> errors = new ArrayList<>();
+        flatten("", DataProvider.loadYamlData(ENDPOINTS_FILE), compiled, errors);
+        if (!errors.isEmpty()) {
+            throw new IllegalStateException("Invalid endpoints in " + ENDPOINTS_FILE + ":\n  " + String.join("\n  ", errors));
+        }
+        return Collections.unmodifiableMap(compiled);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void flatten(String prefix, Map<String, Object> section, Map<String, UriTemplate> compiled,
+                                List<String> errors) {
+        section.forEach((key, value) -> {
+            String name = prefix + key;
+            if (value instanceof Map) {
+                flatten(name + ".", (Map<String, Object>) value, compiled, errors);
+            } else if (value == null) {
+                errors.add(name + ": no template");
+            } else {
+                try {
+                    compiled.put(name, UriTemplate.compile(value.toString()));
+                } catch (IllegalArgumentException e) {
+                    errors.add(name + ": " + e.getMessage());
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,285 @@
+package framework.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import framework.config.ConfigManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Bounded LRU cache of compiled JSON path expressions
+ * Each path string is compiled once per run into segments that are evaluated directly against a
+ * parsed tree. Supports dotted/indexed paths ("data.items[0].id", "$" for the root) and JSON
+ * pointers ("/data/items/0/id"); anything else is marked as not compilable so callers fall back
+ * to GPath evaluation. Field names containing '-' are left to GPath, which reads a-b as a subtraction.
+ * JSON pointers are never handed to GPath: one that does not resolve yields null
+ */
+public final class JsonPathCache {
+    private static final Logger logger = LoggerFactory.getLogger(JsonPathCache.class);
+    private static final Pattern DOTTED_SEGMENT = Pattern.compile("([A-Za-z_][A-Za-z0-9_]*)?((?:\\[-?\\d+])*)");
+    private static final Pattern INDEX = Pattern.compile("\\[(-?\\d+)]");
+
+    /** Marker returned when a compiled path cannot be evaluated against the tree without GPath */
+    public static final Object NOT_EVALUABLE = new Object();
+
+    private static final int maxSize = ConfigManager.getInstance().getSnapshot().getInt("json.path.cache.size", 1024);
+    private static final Map<String, CompiledPath> cache = new LinkedHashMap<String, CompiledPath>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CompiledPath> eldest) {
+            if (size() > maxSize) {
+                evictions.incrementAndGet();
+                return true;
+            }
+            return false;
+        }
+    };
+
+    private static final AtomicLong hits = new AtomicLong();
+    private static final AtomicLong misses = new AtomicLong();
+    private static final AtomicLong evictions = new AtomicLong();
+
+    private JsonPathCache() {
+    }
+
+    /**
+     * Get the compiled form of a path, compiling it on first use
+     */
+    public static CompiledPath compile(String expression) {
+        synchronized (cache) {
+            CompiledPath compiled = cache.get(expression);
+            if (compiled != null) {
+                hits.incrementAndGet();
+                return compiled;
+            }
+        }
+        misses.incrementAndGet();
+        CompiledPath compiled = CompiledPath.parse(expression);
+        synchronized (cache) {
+            cache.put(expression, compiled);
+        }
+        return compiled;
+    }
+
+    /**
+     * Evaluate a path against a Map/List tree (as produced by JsonPath or Jackson)
+     * Returns NOT_EVALUABLE if the path needs GPath semantics
+     */
+    public static Object evaluate(String expression, Object root) {
+        return compile(expression).evaluate(root);
+    }
+
+    public static long getHits() {
+        return hits.get();
+    }
+
+    public static long getMisses() {
+        return misses.get();
+    }
+
+    public static long getEvictions() {
+        return evictions.get();
+    }
+
+    /**
+     * Fraction of lookups served from the cache
+     */
+    public static double getHitRate() {
+        long total = hits.get() + misses.get();
+        return total == 0 ? 0.0 : (double) hits.get() / total;
+    }
+
+    /**
+     * Get cache statistics formatted for logging and reporting
+     */
+    public static String getStatsSummary() {
+        int size;
+        synchronized (cache) {
+            size = cache.size();
+        }
+        return String.format("size=%d/%d, hits=%d, misses=%d, evictions=%d, hit rate=%.1f%%",
+                size, maxSize, hits.get(), misses.get(), evictions.get(), getHitRate() * 100);
+    }
+
+    /**
+     * Clear cached paths and statistics
+     */
+    public static void clear() {
+        synchronized (cache) {
+            cache.clear();
+        }
+        hits.set(0);
+        misses.set(0);
+        evictions.set(0);
+        logger.debug("JSON path cache cleared");
+    }
+
+    /**
+     * A path compiled into field and index segments
+     */
+    public static final class CompiledPath {
+        private final String expression;
+        private final List<Segment> segments;
+        private final boolean compilable;
+        private final boolean pointer;
+
+        private CompiledPath(String expression, List<Segment> segments, boolean compilable) {
+            this(expression, segments, compilable, false);
+        }
+
+        private CompiledPath(String expression, List<Segment> segments, boolean compilable, boolean pointer) {
+            this.expression = expression;
+            this.segments = segments;
+            this.compilable = compilable;
+            this.pointer = pointer;
+        }
+
+        static CompiledPath parse(String expression) {
+            String path = expression == null ? "" : expression.trim();
+            if (path.startsWith("/")) {
+                return new CompiledPath(expression, parsePointer(path), true, true);
+            }
+            if (path.equals("$") || path.isEmpty()) {
+                return new CompiledPath(expression, Collections.emptyList(), true);
+            }
+            if (path.startsWith("$.")) {
+                path = path.substring(2);
+            }
+
+            List<Segment> segments = new ArrayList<>();
+            for (String part : path.split("\\.", -1)) {
+                Matcher matcher = DOTTED_SEGMENT.matcher(part);
+                if (part.isEmpty() || !matcher.matches()) {
+                    return new CompiledPath(expression, Collections.emptyList(), false);
+                }
+                if (matcher.group(1) != null) {
+                    segments.add(Segment.field(matcher.group(1)));
+                }
+                Matcher index = INDEX.matcher(matcher.group(2));
+                while (index.find()) {
+                    segments.add(Segment.index(Integer.parseInt(index.group(1))));
+                }
+            }
+            return new CompiledPath(expression, Collections.unmodifiableList(segments), true);
+        }
+
+        private static List<Segment> parsePointer(String pointer) {
+            List<Segment> segments = new ArrayList<>();
+            for (String token : pointer.substring(1).split("/", -1)) {
+                String name = token.replace("~1", "/").replace("~0", "~");
+                segments.add(Segment.pointer(name));
+            }
+            return Collections.unmodifiableList(segments);
+        }
+
+        public String getExpression() {
+            return expression;
+        }
+
+        /**
+         * True if the path can be evaluated without GPath
+         */
+        public boolean isCompilable() {
+            return compilable;
+        }
+
+        /**
+         * True for JSON pointer paths, which are never evaluated with GPath
+         */
+        public boolean isPointer() {
+            return pointer;
+        }
+
+        /**
+         * Evaluate against a Map/List tree; missing fields and indexes yield null like GPath
+         * Returns NOT_EVALUABLE for dotted paths that need GPath (expressions, or a field applied to a list);
+         * a pointer token that cannot index a list simply does not resolve
+         */
+        public Object evaluate(Object root) {
+            if (!compilable) {
+                return NOT_EVALUABLE;
+            }
+            Object current = root;
+            for (Segment segment : segments) {
+                if (current == null) {
+                    return null;
+                }
+                if (current instanceof Map) {
+                    if (segment.name == null) {
+                        return NOT_EVALUABLE;
+                    }
+                    current = ((Map<?, ?>) current).get(segment.name);
+                } else if (current instanceof List) {
+                    if (segment.index == null) {
+                        // GPath spreads field access over list elements; pointers have no such meaning
+                        return pointer ? null : NOT_EVALUABLE;
+                    }
+                    List<?> list = (List<?>) current;
+                    int i = segment.index < 0 ? list.size() + segment.index : segment.index;
+                    current = i >= 0 && i < list.size() ? list.get(i) : null;
+                } else {
+                    return null;
+                }
+            }
+            return current;
+        }
+
+        /**
+         * Evaluate against a Jackson tree, returning a MissingNode when the path does not resolve
+         */
+        public JsonNode evaluate(JsonNode root) {
+            if (!compilable) {
+                throw new IllegalArgumentException("Unsupported JSON path: " + expression);
+            }
+            JsonNode current = root;
+            for (Segment segment : segments) {
+                JsonNode next = null;
+                if (current.isObject() && segment.name != null) {
+                    next = current.get(segment.name);
+                } else if (current.isArray() && segment.index != null) {
+                    int i = segment.index < 0 ? current.size() + segment.index : segment.index;
+                    next = current.get(i);
+                }
+                if (next == null) {
+                    return MissingNode.getInstance();
+                }
+                current = next;
+            }
+            return current;
+        }
+    }
+
+    /**
+     * One step of a compiled path: a field name, an array index, or (for JSON pointers) either
+     */
+    private static final class Segment {
+        private final String name;
+        private final Integer index;
+
+        private Segment(String name, Integer index) {
+            this.name = name;
+            this.index = index;
+        }
+
+        static Segment field(String name) {
+            return new Segment(name, null);
+        }
+
+        static Segment index(int index) {
+            return new Segment(null, index);
+        }
+
+        static Segment pointer(String token) {
+            Integer index = token.matches("0|[1-9]\\d*") ? Integer.valueOf(token) : null;
+            return new Segment(token, index);
+        }
+    }
+}
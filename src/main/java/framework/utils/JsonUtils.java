@@ -125,12 +125,14 @@ public class JsonUtils {
     }
 
     /**
-     * Get value from JSON using path
+     * Get value from JSON using a JSON pointer ("/data/id") or dotted path ("data.id")
+     * Paths are compiled once through JsonPathCache; field names other than letters, digits and '_'
+     * (e.g. "created-at") need the pointer form
      */
     public static Object getValue(String json, String path) {
         try {
             JsonNode rootNode = objectMapper.readTree(json);
-            JsonNode valueNode = rootNode.at(path);
+            JsonNode valueNode = JsonPathCache.compile(path).evaluate(rootNode);
             
             if (valueNode.isMissingNode()) {
                 logger.warn("JSON path not found: {}", path);
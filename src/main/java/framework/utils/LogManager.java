@@ -19,6 +19,16 @@ public class LogManager {
         MDC.put("thread", threadId);
     }
 
+    /**
+     * Get a stable identifier for the current thread
+     * Virtual threads are unnamed by default, so fall back to the thread id
+     */
+    public static String currentThreadId() {
+        Thread thread = Thread.currentThread();
+        String name = thread.getName();
+        return name == null || name.isEmpty() ? "thread-" + thread.getId() : name;
+    }
+
     /**
      * Clear logging context
      */
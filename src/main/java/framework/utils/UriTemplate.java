@@ -0,0 +1,207 @@
+package framework.utils;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Pattern;
+
+/**
+ * Endpoint template such as /api/v1/users/{id}, parsed once into literal and placeholder parts
+ * Expansion is a single StringBuilder pass; values made only of unreserved characters are appended
+ * without going through the URL encoder
+ */
+public final class UriTemplate {
+    private static final Pattern VARIABLE_NAME = Pattern.compile("[A-Za-z_][A-Za-z0-9_.-]*");
+    private static final ConcurrentMap<String, UriTemplate> compiled = new ConcurrentHashMap<>();
+
+    private final String template;
+    /** literals[i] precedes variables[i]; the last literal follows the last variable */
+    private final String[] literals;
+    private final String[] variables;
+    private final Set<String> variableNames;
+    /** Position of each placeholder's value in the positional expand arguments */
+    private final int[] valueIndexes;
+    private final int literalLength;
+
+    private UriTemplate(String template, List<String> literals, List<String> variables) {
+        this.template = template;
+        this.literals = literals.toArray(new String[0]);
+        this.variables = variables.toArray(new String[0]);
+        this.variableNames = Collections.unmodifiableSet(new LinkedHashSet<>(variables));
+        List<String> distinct = new ArrayList<>(variableNames);
+        this.valueIndexes = variables.stream().mapToInt(distinct::indexOf).toArray();
+        this.literalLength = literals.stream().mapToInt(String::length).sum();
+    }
+
+    /**
+     * Get the compiled template for a string, compiling it on first use
+     */
+    public static UriTemplate of(String template) {
+        UriTemplate result = compiled.get(template);
+        return result != null ? result : compiled.computeIfAbsent(template, UriTemplate::compile);
+    }
+
+    /**
+     * Parse a template, rejecting unbalanced braces and invalid placeholder names
+     */
+    public static UriTemplate compile(String template) {
+        List<String> literals = new ArrayList<>();
+        List<String> variables = new ArrayList<>();
+        int position = 0;
+        while (true) {
+            int open = template.indexOf('{', position);
+            int close = template.indexOf('}', position);
+            if (open < 0) {
+                if (close >= 0) {
+                    throw new IllegalArgumentException("Unmatched '}' at index " + close + " in endpoint template: " + template);
+                }
+                literals.add(template.substring(position));
+                break;
+            }
+            if (close < open) {
+                throw new IllegalArgumentException(close < 0
+                        ? "Unclosed '{' at index " + open + " in endpoint template: " + template
+                        : "Unmatched '}' at index " + close + " in endpoint template: " + template);
+            }
+            String name = template.substring(open + 1, close);
+            if (!VARIABLE_NAME.matcher(name).matches()) {
+                throw new IllegalArgumentException("Invalid placeholder '{" + name + "}' in endpoint template: " + template);
+            }
+            literals.add(template.substring(position, open));
+            variables.add(name);
+            position = close + 1;
+        }
+        return new UriTemplate(template, literals, variables);
+    }
+
+    public String getTemplate() {
+        return template;
+    }
+
+    /**
+     * Placeholder names in order of first appearance
+     */
+    public Set<String> getVariableNames() {
+        return variableNames;
+    }
+
+    public boolean hasVariables() {
+        return variables.length > 0;
+    }
+
+    /**
+     * Expand with URL-encoded values looked up by placeholder name
+     */
+    public String expand(Map<String, ?> values) {
+        return expand(values, true);
+    }
+
+    /**
+     * Expand with values looked up by placeholder name, optionally URL-encoding them
+     * Every placeholder needs a value and every value must match a placeholder
+     */
+    public String expand(Map<String, ?> values, boolean encode) {
+        validate(values);
+        if (variables.length == 0) {
+            return template;
+        }
+        StringBuilder out = new StringBuilder(literalLength + variables.length * 16);
+        for (int i = 0; i < variables.length; i++) {
+            out.append(literals[i]);
+            appendValue(out, values.get(variables[i]), encode);
+        }
+        return out.append(literals[variables.length]).toString();
+    }
+
+    /**
+     * Expand with URL-encoded values given in placeholder order; a repeated placeholder takes one value
+     */
+    public String expand(Object... values) {
+        if (values.length != variableNames.size()) {
+            throw new IllegalArgumentException(String.format("Endpoint template %s expects %d values %s but got %d",
+                    template, variableNames.size(), variableNames, values.length));
+        }
+        if (variables.length == 0) {
+            return template;
+        }
+        StringBuilder out = new StringBuilder(literalLength + variables.length * 16);
+        for (int i = 0; i < variables.length; i++) {
+            out.append(literals[i]);
+            appendValue(out, checkNotNull(values[valueIndexes[i]], variables[i]), true);
+        }
+        return out.append(literals[variables.length]).toString();
+    }
+
+    /**
+     * Check a set of named values matches the placeholders exactly
+     */
+    public void validate(Map<String, ?> values) {
+        for (String name : variableNames) {
+            checkNotNull(values.get(name), name);
+        }
+        if (values.size() != variableNames.size()) {
+            for (String name : values.keySet()) {
+                if (!variableNames.contains(name)) {
+                    throw new IllegalArgumentException(String.format(
+                            "Unknown path parameter '%s' for endpoint template %s, expected %s", name, template, variableNames));
+                }
+            }
+        }
+    }
+
+    /**
+     * True if every value consists only of unreserved characters (letters, digits, '-', '.', '_', '~'),
+     * so it reads the same whether or not it is URL-encoded
+     */
+    public static boolean isUnreserved(Collection<?> values) {
+        for (Object value : values) {
+            if (!isUnreserved(String.valueOf(value))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Object checkNotNull(Object value, String name) {
+        if (value == null) {
+            throw new IllegalArgumentException(String.format(
+                    "Missing value for {%s} in endpoint template %s", name, template));
+        }
+        return value;
+    }
+
+    private static void appendValue(StringBuilder out, Object value, boolean encode) {
+        String text = String.valueOf(value);
+        if (!encode || isUnreserved(text)) {
+            out.append(text);
+        } else {
+            out.append(URLEncoder.encode(text, StandardCharsets.UTF_8).replace("+", "%20"));
+        }
+    }
+
+    private static boolean isUnreserved(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            boolean unreserved = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                    || c == '-' || c == '.' || c == '_' || c == '~';
+            if (!unreserved) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return template + " " + Arrays.toString(variables);
+    }
+}
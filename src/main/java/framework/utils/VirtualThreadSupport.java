@@ -0,0 +1,78 @@
+package framework.utils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates virtual-thread executors when running on Java 21+
+ * Falls back to platform threads on older runtimes so the framework still compiles against Java 11
+ */
+public final class VirtualThreadSupport {
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadSupport.class);
+    private static final Method OF_VIRTUAL = findMethod(Thread.class, "ofVirtual");
+    private static final Method NEW_THREAD_PER_TASK_EXECUTOR =
+            findMethod(Executors.class, "newThreadPerTaskExecutor", ThreadFactory.class);
+
+    private VirtualThreadSupport() {
+    }
+
+    /**
+     * Check if the running JVM supports virtual threads
+     */
+    public static boolean isAvailable() {
+        return OF_VIRTUAL != null && NEW_THREAD_PER_TASK_EXECUTOR != null;
+    }
+
+    /**
+     * Create an executor that starts a new (virtual, when available) thread per task
+     * Threads are named with the given prefix followed by a sequence number
+     */
+    public static ExecutorService newThreadPerTaskExecutor(String namePrefix) {
+        if (isAvailable()) {
+            try {
+                Object builder = OF_VIRTUAL.invoke(null);
+                Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+                builder = builderType.getMethod("name", String.class, long.class).invoke(builder, namePrefix + "-", 1L);
+                ThreadFactory factory = (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+                return (ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR.invoke(null, factory);
+            } catch (ReflectiveOperationException e) {
+                logger.warn("Failed to create virtual thread executor, falling back to platform threads", e);
+            }
+        } else {
+            logger.warn("Virtual threads require Java 21+ (running {}), falling back to platform threads",
+                    System.getProperty("java.version"));
+        }
+        return Executors.newCachedThreadPool(new NamedThreadFactory(namePrefix));
+    }
+
+    private static Method findMethod(Class<?> type, String name, Class<?>... parameterTypes) {
+        try {
+            return type.getMethod(name, parameterTypes);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Thread factory for the platform-thread fallback
+     */
+    private static class NamedThreadFactory implements ThreadFactory {
+        private final String namePrefix;
+        private final AtomicInteger counter = new AtomicInteger();
+
+        NamedThreadFactory(String namePrefix) {
+            this.namePrefix = namePrefix;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            return new Thread(runnable, namePrefix + "-" + counter.incrementAndGet());
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package framework.auth;
+
+import org.testng.annotations.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for TokenCache single-flight fetching and background refresh scheduling
+ */
+@Test(singleThreaded = true)
+public class TokenCacheTest {
+
+    @Test
+    public void refreshFiresBeforeTokenTurnsStale() {
+        // 200s token with 60s skew: stale at 150s (skew capped at a quarter of the lifetime)
+        long delayMs = TokenCache.refreshDelayMs(200_000, 200_000, 120_000, 60_000);
+        assertThat(delayMs).isLessThan(200_000 - TokenCache.staleSkewMs(200_000, 60_000));
+        assertThat(delayMs).isEqualTo(149_000);
+    }
+
+    @Test
+    public void refreshUsesRefreshAheadForLongLivedTokens() {
+        long delayMs = TokenCache.refreshDelayMs(3_600_000, 3_600_000, 120_000, 60_000);
+        assertThat(delayMs).isEqualTo(3_480_000);
+    }
+
+    @Test
+    public void refreshOfExpiringTokenIsImmediate() {
+        assertThat(TokenCache.refreshDelayMs(3_600_000, 30_000, 120_000, 60_000)).isZero();
+    }
+
+    @Test
+    public void staleSkewIsCappedForShortLivedTokens() {
+        assertThat(TokenCache.staleSkewMs(10_000, 60_000)).isEqualTo(2_500);
+        assertThat(TokenCache.staleSkewMs(3_600_000, 60_000)).isEqualTo(60_000);
+    }
+
+    @Test
+    public void concurrentCallersShareOneFetch() throws Exception {
+        TokenCache.TokenKey key = newKey("password");
+        AtomicInteger fetches = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        TokenCache.TokenProvider provider = provider(fetches, 3600, 50);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<TokenCache.CachedToken>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return TokenCache.getInstance().getToken(key, provider);
+                }));
+            }
+            start.countDown();
+            TokenCache.CachedToken first = results.get(0).get(5, TimeUnit.SECONDS);
+            for (Future<TokenCache.CachedToken> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isSameAs(first);
+            }
+            assertThat(fetches.get()).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+            TokenCache.getInstance().invalidate(key);
+        }
+    }
+
+    @Test
+    public void shortLivedTokenIsReusedRatherThanRefetched() {
+        TokenCache.TokenKey key = newKey("password");
+        AtomicInteger fetches = new AtomicInteger();
+        TokenCache.TokenProvider provider = provider(fetches, 20, 0);
+        try {
+            TokenCache.CachedToken first = TokenCache.getInstance().getToken(key, provider);
+            TokenCache.CachedToken second = TokenCache.getInstance().getToken(key, provider);
+            assertThat(second).isSameAs(first);
+            assertThat(fetches.get()).isEqualTo(1);
+        } finally {
+            TokenCache.getInstance().invalidate(key);
+        }
+    }
+
+    @Test
+    public void differentPasswordDoesNotReuseToken() {
+        TokenCache.TokenKey right = newKey("right");
+        TokenCache.TokenKey wrong = new TokenCache.TokenKey(right.getEnvironment(), right.getUsername(), "wrong", "");
+        assertThat(wrong).isNotEqualTo(right);
+        assertThat(new TokenCache.TokenKey(right.getEnvironment(), right.getUsername(), "right", ""))
+                .isEqualTo(right);
+    }
+
+    @Test
+    public void invalidateAndCancelStopBackgroundRefresh() {
+        TokenCache.TokenKey key = newKey("password");
+        TokenCache.TokenProvider provider = provider(new AtomicInteger(), 3600, 0);
+        try {
+            TokenCache.getInstance().getToken(key, provider);
+            assertThat(TokenCache.getInstance().isRefreshScheduled(key)).isTrue();
+
+            TokenCache.getInstance().cancelRefresh(key);
+            assertThat(TokenCache.getInstance().isRefreshScheduled(key)).isFalse();
+
+            // Reading the token again re-arms the refresh
+            assertThat(TokenCache.getInstance().peek(key)).isNotNull();
+            assertThat(TokenCache.getInstance().isRefreshScheduled(key)).isTrue();
+
+            TokenCache.getInstance().invalidate(key);
+            assertThat(TokenCache.getInstance().isRefreshScheduled(key)).isFalse();
+            assertThat(TokenCache.getInstance().peek(key)).isNull();
+        } finally {
+            TokenCache.getInstance().invalidate(key);
+        }
+    }
+
+    private static TokenCache.TokenKey newKey(String password) {
+        return new TokenCache.TokenKey("unit", "user-" + UUID.randomUUID(), password, "");
+    }
+
+    private static TokenCache.TokenProvider provider(AtomicInteger fetches, long validitySeconds, long latencyMs) {
+        return new TokenCache.TokenProvider() {
+            @Override
+            public TokenCache.CachedToken fetch() {
+                fetches.incrementAndGet();
+                if (latencyMs > 0) {
+                    try {
+                        Thread.sleep(latencyMs);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                return new TokenCache.CachedToken("token-" + fetches.get(), Instant.now().plusSeconds(validitySeconds));
+            }
+
+            @Override
+            public TokenCache.CachedToken refresh(TokenCache.CachedToken current) {
+                return fetch();
+            }
+        };
+    }
+}
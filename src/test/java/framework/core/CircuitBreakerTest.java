@@ -0,0 +1,136 @@
+package framework.core;
+
+import org.testng.annotations.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for circuit breaker state transitions and half-open probe accounting
+ */
+public class CircuitBreakerTest {
+    private static final String BASE_URL = "http://unit-breaker:8080";
+
+    @Test
+    public void opensWhenFailureThresholdAndRateAreReached() {
+        CircuitBreaker breaker = breaker(4, 2, 50.0, 60_000, 2);
+        call(breaker, true);
+        call(breaker, true);
+        call(breaker, false);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        call(breaker, false);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThatThrownBy(breaker::acquirePermission)
+                .isInstanceOf(CircuitBreakerOpenException.class)
+                .hasMessageContaining(BASE_URL)
+                .hasMessageContaining("next probe in");
+        assertThat(breaker.getStatsSummary()).contains("calls=4", "failures=2", "rejected=1", "transitions=1");
+    }
+
+    @Test
+    public void failuresOutsideTheWindowAreForgotten() {
+        CircuitBreaker breaker = breaker(3, 2, 50.0, 60_000, 1);
+        call(breaker, false);
+        call(breaker, true);
+        call(breaker, true);
+        // The first failure slides out of the three-call window
+        call(breaker, false);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        call(breaker, false);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    public void halfOpenLimitsProbesAndClosesWhenAllSucceed() throws Exception {
+        CircuitBreaker breaker = openBreaker(50, 2);
+        Thread.sleep(80);
+
+        breaker.acquirePermission();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        breaker.acquirePermission();
+        assertThatThrownBy(breaker::acquirePermission)
+                .as("only two probes may be in flight")
+                .isInstanceOf(CircuitBreakerOpenException.class)
+                .hasMessageContaining("HALF_OPEN");
+
+        breaker.onSuccess();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThatThrownBy(breaker::acquirePermission)
+                .as("a succeeded probe still uses its slot until the circuit closes")
+                .isInstanceOf(CircuitBreakerOpenException.class);
+        breaker.onSuccess();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        breaker.acquirePermission();
+    }
+
+    @Test
+    public void reportedProbeFailureFreesItsSlotAndReopensWithLongerTimeout() throws Exception {
+        CircuitBreaker breaker = openBreaker(100, 1);
+        Thread.sleep(130);
+
+        breaker.acquirePermission();
+        breaker.onFailure("probe failed");
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        // Open time doubled to 200ms: still rejecting after the original 100ms
+        Thread.sleep(130);
+        assertThatThrownBy(breaker::acquirePermission).isInstanceOf(CircuitBreakerOpenException.class);
+        Thread.sleep(120);
+        breaker.acquirePermission();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        breaker.onSuccess();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    public void callsInFlightWhenTheCircuitOpenedDoNotChangeIt() {
+        CircuitBreaker breaker = openBreaker(60_000, 1);
+        breaker.onSuccess();
+        breaker.onFailure("late failure");
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.getStatsSummary()).contains("transitions=1");
+    }
+
+    @Test
+    public void disabledBreakerNeverRejects() {
+        CircuitBreaker breaker = new CircuitBreaker(BASE_URL, false, 1, 1, 0.0, 60_000, 60_000, 1);
+        for (int i = 0; i < 5; i++) {
+            call(breaker, false);
+        }
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(breaker.getStatsSummary()).isEqualTo("disabled");
+    }
+
+    @Test
+    public void baseUrlIsTakenFromAbsoluteUrls() {
+        assertThat(CircuitBreaker.baseUrlOf("https://api.example.com:8443/v1/users?page=2"))
+                .isEqualTo("https://api.example.com:8443");
+        assertThat(CircuitBreaker.baseUrlOf("http://localhost:8081")).isEqualTo("http://localhost:8081");
+    }
+
+    private static CircuitBreaker breaker(int windowSize, int failureThreshold, double failureRate,
+                                          long openTimeoutMs, int probes) {
+        return new CircuitBreaker(BASE_URL, true, windowSize, failureThreshold, failureRate,
+                openTimeoutMs, openTimeoutMs * 4, probes);
+    }
+
+    /**
+     * A breaker that opened on its first failure
+     */
+    private static CircuitBreaker openBreaker(long openTimeoutMs, int probes) {
+        CircuitBreaker breaker = breaker(1, 1, 0.0, openTimeoutMs, probes);
+        call(breaker, false);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        return breaker;
+    }
+
+    private static void call(CircuitBreaker breaker, boolean success) {
+        breaker.acquirePermission();
+        if (success) {
+            breaker.onSuccess();
+        } else {
+            breaker.onFailure("unit test");
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package framework.core;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.response.Response;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for ResponseValidator path evaluation and the automatic streaming switch
+ */
+public class ResponseValidatorTest {
+    private static final String JSON = "{\"data\":{\"count\":\"3\",\"owner\":{\"name\":\"ann\"},"
+            + "\"items\":[{\"id\":1,\"name\":\"a\"},{\"id\":2,\"name\":\"b\"},{\"id\":3,\"name\":\"c\"}]}}";
+
+    @Test
+    public void largeResponseStreamsDottedPathsAndKeepsGPathOnTheTree() {
+        // Content-Length above the default 50 MB streaming threshold
+        Response large = new ResponseBuilder()
+                .setStatusCode(200)
+                .setContentType("application/json")
+                .setHeader("Content-Length", String.valueOf(60L * 1024 * 1024))
+                .setBody(JSON)
+                .build();
+
+        ResponseValidator validator = new ResponseValidator(large);
+        validator.jsonArraySize("data.items", 3)
+                .jsonArrayNotEmpty("data.items")
+                .jsonArraySize("data.items.findAll { it.id > 1 }", 2)
+                .jsonArraySize("data.items.name", 3);
+    }
+
+    @Test
+    public void extractorsReadFromTheParsedTree() {
+        ResponseValidator validator = new ResponseValidator(StreamingJsonValidatorTest.response(JSON));
+        assertThat(validator.extractInteger("data.items[1].id")).isEqualTo(2);
+        assertThat(validator.extractInteger("data.count")).isEqualTo(3);
+        assertThat(validator.extractValue("data.items[0].id", Long.class)).isEqualTo(1L);
+        assertThat(validator.<Object>extractList("data.items.name")).isEqualTo(Arrays.asList("a", "b", "c"));
+        Map<String, Object> owner = validator.extractMap("data.owner");
+        assertThat(owner).containsEntry("name", "ann");
+        assertThat(validator.extractString("/data/items/2/name")).isEqualTo("c");
+        assertThat(validator.extractString("/data/items/name")).isNull();
+    }
+}
@@ -0,0 +1,158 @@
+package framework.core;
+
+import framework.config.ConfigManager;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.response.Response;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for Retry-After parsing and the shared retry budget
+ */
+public class RetryPolicyTest {
+    private static final String ENDPOINT = "/unit-retry/items";
+
+    @BeforeClass
+    public void configureEndpointGroup() {
+        // A group of its own keeps these settings away from every other endpoint
+        ConfigManager config = ConfigManager.getInstance();
+        config.setProperty("endpoint.group.unitretry", "/unit-retry/");
+        config.setProperty("unitretry.api.retry.attempts", "5");
+        config.setProperty("unitretry.api.retry.delay", "1");
+        config.setProperty("unitretry.api.retry.max.delay", "5");
+    }
+
+    @Test
+    public void parsesRetryAfterSeconds() {
+        assertThat(RetryPolicy.retryAfterMs("5")).isEqualTo(5000);
+        assertThat(RetryPolicy.retryAfterMs(" 0 ")).isZero();
+        assertThat(RetryPolicy.retryAfterMs("-3")).isZero();
+    }
+
+    @Test
+    public void parsesRetryAfterHttpDate() {
+        String inTenSeconds = DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now(ZoneOffset.UTC).plusSeconds(10));
+        assertThat(RetryPolicy.retryAfterMs(inTenSeconds)).isBetween(8000L, 10000L);
+        String past = DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now(ZoneOffset.UTC).minusMinutes(1));
+        assertThat(RetryPolicy.retryAfterMs(past)).isZero();
+    }
+
+    @Test
+    public void ignoresMissingOrInvalidRetryAfter() {
+        assertThat(RetryPolicy.retryAfterMs(null)).isEqualTo(-1);
+        assertThat(RetryPolicy.retryAfterMs("  ")).isEqualTo(-1);
+        assertThat(RetryPolicy.retryAfterMs("soon")).isEqualTo(-1);
+        assertThat(RetryPolicy.retryAfterMs("1.5")).isEqualTo(-1);
+    }
+
+    @Test
+    public void stopsRetryingWhenTheBudgetIsExhausted() {
+        // Two retries in reserve and nothing earned per request
+        RetryPolicy policy = new RetryPolicy(0.0, 2);
+        AtomicInteger attempts = new AtomicInteger();
+
+        Response response = policy.execute("GET", ENDPOINT, false, () -> respond(attempts, 503, null));
+        assertThat(response.getStatusCode()).isEqualTo(503);
+        assertThat(attempts.get()).isEqualTo(3);
+
+        attempts.set(0);
+        policy.execute("GET", ENDPOINT, false, () -> respond(attempts, 503, null));
+        assertThat(attempts.get()).isEqualTo(1);
+        assertThat(policy.getStatsSummary()).contains("retries=2", "budget exhausted=2");
+    }
+
+    @Test
+    public void requestsRefillTheBudget() {
+        // Every request earns a quarter of a retry, up to one in reserve
+        RetryPolicy policy = new RetryPolicy(0.25, 1);
+        AtomicInteger attempts = new AtomicInteger();
+        policy.execute("GET", ENDPOINT, false, () -> respond(attempts, 503, null));
+        assertThat(attempts.get()).isEqualTo(2);
+
+        attempts.set(0);
+        policy.execute("GET", ENDPOINT, false, () -> respond(attempts, 503, null));
+        assertThat(attempts.get()).isEqualTo(1);
+
+        policy.execute("GET", ENDPOINT, false, () -> respond(new AtomicInteger(), 200, null));
+        policy.execute("GET", ENDPOINT, false, () -> respond(new AtomicInteger(), 200, null));
+        attempts.set(0);
+        policy.execute("GET", ENDPOINT, false, () -> respond(attempts, 503, null));
+        assertThat(attempts.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void retriesUntilSuccessWithinTheAttemptLimit() {
+        RetryPolicy policy = new RetryPolicy(0.2, 10);
+        AtomicInteger attempts = new AtomicInteger();
+        Response response = policy.execute("GET", ENDPOINT, false,
+                () -> respond(attempts, attempts.get() < 2 ? 503 : 200, null));
+        assertThat(response.getStatusCode()).isEqualTo(200);
+        assertThat(attempts.get()).isEqualTo(3);
+
+        attempts.set(0);
+        policy.execute("GET", ENDPOINT, false, () -> respond(attempts, 503, null));
+        assertThat(attempts.get()).isEqualTo(6);
+        assertThat(policy.getStatsSummary()).contains("given up=1");
+    }
+
+    @Test
+    public void retryAfterAboveMaxDelayIsNotWaitedFor() {
+        RetryPolicy policy = new RetryPolicy(0.2, 10);
+        AtomicInteger attempts = new AtomicInteger();
+        policy.execute("GET", ENDPOINT, false, () -> respond(attempts, 429, "60"));
+        assertThat(attempts.get()).isEqualTo(1);
+        assertThat(policy.getStatsSummary()).contains("retries=0", "given up=1");
+    }
+
+    @Test
+    public void nonIdempotentRequestsAreRetriedOnlyWithAnIdempotencyKey() {
+        RetryPolicy policy = new RetryPolicy(0.2, 10);
+        AtomicInteger attempts = new AtomicInteger();
+        policy.execute("POST", ENDPOINT, false, () -> respond(attempts, 503, null));
+        assertThat(attempts.get()).isEqualTo(1);
+
+        attempts.set(0);
+        policy.execute("POST", ENDPOINT, true, () -> respond(attempts, attempts.get() < 1 ? 503 : 201, null));
+        assertThat(attempts.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void connectionFailuresAreRetriedButOtherErrorsAreNot() {
+        RetryPolicy policy = new RetryPolicy(0.2, 10);
+        AtomicInteger attempts = new AtomicInteger();
+        Response response = policy.execute("GET", ENDPOINT, false, () -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new UncheckedIOException(new IOException("connection reset"));
+            }
+            return respond(new AtomicInteger(), 200, null);
+        });
+        assertThat(response.getStatusCode()).isEqualTo(200);
+        assertThat(attempts.get()).isEqualTo(2);
+
+        AtomicInteger failures = new AtomicInteger();
+        assertThatThrownBy(() -> policy.execute("GET", ENDPOINT, false, () -> {
+            failures.incrementAndGet();
+            throw new IllegalStateException("not retryable");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(failures.get()).isEqualTo(1);
+    }
+
+    private static Response respond(AtomicInteger attempts, int statusCode, String retryAfter) {
+        attempts.incrementAndGet();
+        ResponseBuilder builder = new ResponseBuilder().setStatusCode(statusCode).setBody("");
+        if (retryAfter != null) {
+            builder.setHeader("Retry-After", retryAfter);
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,82 @@
+package framework.core;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.response.Response;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for streaming path parsing and array walking
+ */
+public class StreamingJsonValidatorTest {
+    private static final String JSON = "{\"data\":{\"items\":[{\"id\":1,\"tags\":[\"x\"]},{\"id\":2,\"tags\":[]},"
+            + "{\"id\":3,\"tags\":[\"y\",\"z\"]}],\"empty\":[]},\"pages\":[{\"rows\":[1,2]},{\"rows\":[3]}]}";
+
+    @Test
+    public void parsesDottedPathsIntoSteps() {
+        assertThat(StreamingJsonValidator.parseSteps("$")).isEmpty();
+        assertThat(StreamingJsonValidator.parseSteps("data.items")).containsExactly("data", "items");
+        assertThat(StreamingJsonValidator.parseSteps("$.pages[1].rows")).containsExactly("pages", 1, "rows");
+        assertThat(StreamingJsonValidator.parseSteps("matrix[0][2]")).containsExactly("matrix", 0, 2);
+    }
+
+    @Test
+    public void rejectsGPathAndMalformedPaths() {
+        for (String path : Arrays.asList("data.items.findAll { it.id > 1 }", "data.items.size()", "items[-1]",
+                "items[1", "items]", "items[a]", "data..items", "items[99999999999]", "a-b")) {
+            assertThatThrownBy(() -> StreamingJsonValidator.parseSteps(path))
+                    .as(path)
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining(path);
+            assertThat(StreamingJsonValidator.isStreamable(path)).as(path).isFalse();
+        }
+        assertThat(StreamingJsonValidator.isStreamable("data.items")).isTrue();
+    }
+
+    @Test
+    public void countsAndChecksElements() {
+        StreamingJsonValidator validator = new StreamingJsonValidator(response(JSON));
+        assertThat(validator.countElements("data.items")).isEqualTo(3);
+        assertThat(validator.countElements("pages[0].rows")).isEqualTo(2);
+        validator.arraySize("data.empty", 0)
+                .arrayNotEmpty("data.items")
+                .eachElementHasField("data.items", "id")
+                .anyElementMatches("data.items", element -> element.get("id").asInt() == 3, "id = 3");
+    }
+
+    @Test
+    public void failingElementIsReported() {
+        StreamingJsonValidator validator = new StreamingJsonValidator(response(JSON));
+        assertThatThrownBy(() -> validator.allElementsMatch("data.items",
+                element -> element.get("tags").size() > 0, "has tags"))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("Element 1 of data.items")
+                .hasMessageContaining("\"id\":2");
+    }
+
+    @Test
+    public void missingOrNonArrayPathFails() {
+        StreamingJsonValidator validator = new StreamingJsonValidator(response(JSON));
+        assertThatThrownBy(() -> validator.countElements("data.missing"))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("JSON path not found");
+        assertThatThrownBy(() -> validator.countElements("data"))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("not an array");
+        assertThatThrownBy(() -> validator.countElements("data.items.tags"))
+                .isInstanceOf(StreamingJsonValidator.UnsupportedPathException.class)
+                .hasMessageContaining("applied to an array");
+    }
+
+    static Response response(String json) {
+        return new ResponseBuilder()
+                .setStatusCode(200)
+                .setContentType("application/json")
+                .setBody(json)
+                .build();
+    }
+}
@@ -0,0 +1,92 @@
+package framework.performance;
+
+import framework.core.TestContext;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for LatencyMetrics error counting and scenario latency windows
+ */
+public class LatencyMetricsTest {
+
+    @AfterMethod
+    public void clearContext() {
+        TestContext.remove(TestContext.LATENCY_WINDOW_KEY);
+    }
+
+    @Test
+    public void onlyServerErrorsTimeoutsAndFailuresAreErrors() {
+        String endpoint = "/errors/" + UUID.randomUUID();
+        for (int status : new int[]{200, 201, 404, 409, 500, 503, LatencyMetrics.STATUS_TIMEOUT, 0}) {
+            LatencyMetrics.record("GET", endpoint, ms(10), status);
+        }
+        LatencyMetrics.EndpointStats stats = LatencyMetrics.getStats("GET", endpoint);
+        assertThat(stats.getCount()).isEqualTo(8);
+        assertThat(stats.getErrorCount()).isEqualTo(4);
+        assertThat(stats.getTimeoutCount()).isEqualTo(1);
+        assertThat(stats.getStatusCounts()).containsEntry(404, 1L).containsEntry(409, 1L);
+    }
+
+    @Test
+    public void windowSeesOnlyCallsMadeAfterItStarted() {
+        String endpoint = "/window/" + UUID.randomUUID();
+        LatencyMetrics.record("POST", endpoint, ms(500), 200);
+
+        LatencyMetrics.Window window = LatencyMetrics.startWindow();
+        assertThat(LatencyMetrics.currentWindow()).isSameAs(window);
+        LatencyMetrics.record("POST", endpoint, ms(20), 200);
+        LatencyMetrics.record("POST", endpoint, ms(30), 503);
+
+        LatencyMetrics.EndpointStats scoped = window.getStats("POST", endpoint);
+        assertThat(scoped.getCount()).isEqualTo(2);
+        assertThat(scoped.getErrorCount()).isEqualTo(1);
+        assertThat(scoped.getLatency().getMaxMs()).isLessThan(100);
+        assertThat(LatencyMetrics.getStats("POST", endpoint).getCount()).isEqualTo(3);
+        assertThat(window.getStats("GET", endpoint)).isNull();
+    }
+
+    @Test
+    public void otherThreadsDoNotRecordIntoTheWindow() throws Exception {
+        String endpoint = "/isolated/" + UUID.randomUUID();
+        LatencyMetrics.Window window = LatencyMetrics.startWindow();
+        CompletableFuture.runAsync(() -> LatencyMetrics.record("GET", endpoint, ms(5), 200)).get(5, TimeUnit.SECONDS);
+        assertThat(window.getStats("GET", endpoint)).isNull();
+
+        // Load test workers get the window attached explicitly
+        LoadTestEngine.LoadTask task = LoadTestEngine.inWindow(window, () -> {
+            LatencyMetrics.record("GET", endpoint, ms(5), 200);
+            return null;
+        });
+        CompletableFuture.runAsync(() -> {
+            try {
+                task.execute();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }).get(5, TimeUnit.SECONDS);
+        assertThat(window.getStats("GET", endpoint).getCount()).isEqualTo(1);
+        assertThat(LatencyMetrics.getStats("GET", endpoint).getCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void validatorAssertsOnTheScenarioWindow() {
+        String endpoint = "/validator/" + UUID.randomUUID();
+        LatencyMetrics.record("GET", endpoint, ms(900), 500);
+        LatencyMetrics.startWindow();
+        LatencyMetrics.record("GET", endpoint, ms(40), 200);
+        MetricsValidator.forScenario("GET", endpoint)
+                .requestCountAtLeast(1)
+                .percentileBelow(99, 100)
+                .errorRateBelow(0.1);
+    }
+
+    private static long ms(long millis) {
+        return TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+}
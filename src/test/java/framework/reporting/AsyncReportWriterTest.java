@@ -0,0 +1,111 @@
+package framework.reporting;
+
+import com.aventstack.extentreports.ExtentReports;
+import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.Status;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the async report writer's overflow policies and shutdown
+ */
+public class AsyncReportWriterTest {
+    private final ExtentTest test = new ExtentReports().createTest("writer");
+
+    @Test
+    public void dropDiscardsOnlyInfoEntries() throws Exception {
+        AsyncReportWriter writer = new AsyncReportWriter(1, AsyncReportWriter.OverflowPolicy.DROP, 5000);
+        List<String> written = new CopyOnWriteArrayList<>();
+        CountDownLatch release = fillQueue(writer, written);
+
+        writer.submit(test, Status.INFO, t -> written.add("info"));
+        CompletableFuture<Void> fail = CompletableFuture.runAsync(
+                () -> writer.submit(test, Status.FAIL, t -> written.add("fail")));
+        Thread.sleep(200);
+        assertThat(fail).as("a FAIL entry waits for space instead of being dropped").isNotDone();
+
+        release.countDown();
+        fail.get(5, TimeUnit.SECONDS);
+        assertThat(writer.close()).isTrue();
+        assertThat(written).containsExactly("busy", "queued", "fail");
+        assertThat(writer.getStatsSummary()).contains("dropped=1");
+    }
+
+    @Test
+    public void callerRunsWaitsForTheWriterLock() throws Exception {
+        AsyncReportWriter writer = new AsyncReportWriter(1, AsyncReportWriter.OverflowPolicy.CALLER_RUNS, 5000);
+        List<String> written = new CopyOnWriteArrayList<>();
+        CountDownLatch release = fillQueue(writer, written);
+
+        CompletableFuture<Void> caller = CompletableFuture.runAsync(
+                () -> writer.submit(test, Status.INFO, t -> written.add("caller")));
+        Thread.sleep(200);
+        assertThat(caller).as("the caller does not write while the writer thread is writing").isNotDone();
+        assertThat(written).containsExactly("busy");
+
+        release.countDown();
+        caller.get(5, TimeUnit.SECONDS);
+        assertThat(writer.close()).isTrue();
+        assertThat(written).containsExactlyInAnyOrder("busy", "queued", "caller");
+        assertThat(writer.getStatsSummary()).contains("caller runs=1");
+    }
+
+    @Test
+    public void closeWritesEverythingQueuedAndLaterEntriesDirectly() {
+        AsyncReportWriter writer = new AsyncReportWriter(100, AsyncReportWriter.OverflowPolicy.BLOCK, 5000);
+        List<Integer> written = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            int n = i;
+            writer.submit(test, Status.INFO, t -> written.add(n));
+        }
+        assertThat(writer.close()).isTrue();
+        assertThat(written).hasSize(50).isSorted();
+
+        writer.submit(test, Status.INFO, t -> written.add(50));
+        assertThat(written).hasSize(51);
+    }
+
+    @Test
+    public void closeGivesUpAfterTheDrainTimeout() {
+        AsyncReportWriter writer = new AsyncReportWriter(10, AsyncReportWriter.OverflowPolicy.BLOCK, 200);
+        List<String> written = new CopyOnWriteArrayList<>();
+        CountDownLatch release = fillQueue(writer, written);
+        try {
+            assertThat(writer.close()).isFalse();
+            assertThat(writer.getStatsSummary()).contains("dropped=1");
+        } finally {
+            release.countDown();
+        }
+    }
+
+    /**
+     * Keep the writer thread busy on one event and fill the rest of a one-slot queue
+     */
+    private CountDownLatch fillQueue(AsyncReportWriter writer, List<String> written) {
+        CountDownLatch busy = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        writer.submit(test, Status.INFO, t -> {
+            written.add("busy");
+            busy.countDown();
+            await(release);
+        });
+        await(busy);
+        writer.submit(test, Status.INFO, t -> written.add("queued"));
+        return release;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
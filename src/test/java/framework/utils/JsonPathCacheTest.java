@@ -0,0 +1,91 @@
+package framework.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.restassured.path.json.JsonPath;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for JsonPathCache compilation, checked against GPath on the same document
+ */
+public class JsonPathCacheTest {
+    private static final String JSON = "{\"data\":{\"count\":3,\"owner\":null,\"items\":["
+            + "{\"id\":1,\"name\":\"a\"},{\"id\":2,\"name\":\"b\"},{\"id\":3,\"name\":\"c\"}]},"
+            + "\"a\":5,\"b\":2,\"a-b\":\"dash\",\"ratio\":1.5}";
+
+    private final JsonPath gpath = new JsonPath(JSON);
+    private final Object root = gpath.get("$");
+
+    @DataProvider(name = "dottedPaths")
+    public Object[][] dottedPaths() {
+        return new Object[][]{
+                {"data.count"},
+                {"data.owner"},
+                {"data.missing"},
+                {"data.items[0].id"},
+                {"data.items[1]"},
+                {"data.items[-1].name"},
+                {"data.items[7]"},
+                {"ratio"},
+        };
+    }
+
+    @Test(dataProvider = "dottedPaths")
+    public void compiledPathMatchesGPath(String path) {
+        JsonPathCache.CompiledPath compiled = JsonPathCache.compile(path);
+        assertThat(compiled.isCompilable()).isTrue();
+        Object expected = gpath.get(path);
+        assertThat(compiled.evaluate(root)).isEqualTo(expected);
+    }
+
+    @Test
+    public void rootPathReturnsDocument() {
+        assertThat(JsonPathCache.compile("$").evaluate(root)).isSameAs(root);
+        assertThat(JsonPathCache.compile("$.data.count").evaluate(root)).isEqualTo(3);
+    }
+
+    @Test
+    public void fieldAccessOnListIsLeftToGPath() {
+        assertThat(JsonPathCache.compile("data.items.name").evaluate(root)).isSameAs(JsonPathCache.NOT_EVALUABLE);
+        assertThat(gpath.<Object>get("data.items.name")).isEqualTo(Arrays.asList("a", "b", "c"));
+    }
+
+    @Test
+    public void expressionsAreNotCompiled() {
+        assertThat(JsonPathCache.compile("a-b").isCompilable()).isFalse();
+        assertThat(JsonPathCache.compile("data.items.findAll { it.id > 1 }").isCompilable()).isFalse();
+        assertThat(JsonPathCache.compile("data.items.size()").isCompilable()).isFalse();
+        assertThat(JsonPathCache.compile("data.items[0]['id']").isCompilable()).isFalse();
+        assertThat(JsonPathCache.compile("data..count").isCompilable()).isFalse();
+    }
+
+    @Test
+    public void pointersResolveWithoutGPath() {
+        JsonPathCache.CompiledPath pointer = JsonPathCache.compile("/data/items/1/name");
+        assertThat(pointer.isPointer()).isTrue();
+        assertThat(pointer.evaluate(root)).isEqualTo("b");
+        assertThat(JsonPathCache.compile("/a-b").evaluate(root)).isEqualTo("dash");
+        // A non-numeric token on an array is simply not found
+        assertThat(JsonPathCache.compile("/data/items/name").evaluate(root)).isNull();
+        assertThat(JsonPathCache.compile("/data/items/9").evaluate(root)).isNull();
+    }
+
+    @Test
+    public void evaluatesAgainstJacksonTree() throws Exception {
+        JsonNode tree = new ObjectMapper().readTree(JSON);
+        assertThat(JsonPathCache.compile("data.items[-1].id").evaluate(tree).asInt()).isEqualTo(3);
+        assertThat(JsonPathCache.compile("/data/items/0/name").evaluate(tree).asText()).isEqualTo("a");
+        assertThat(JsonPathCache.compile("data.missing.id").evaluate(tree).isMissingNode()).isTrue();
+        assertThat(JsonPathCache.compile("/data/items/name").evaluate(tree).isMissingNode()).isTrue();
+    }
+
+    @Test
+    public void compiledPathsAreCached() {
+        assertThat(JsonPathCache.compile("data.items[2].name")).isSameAs(JsonPathCache.compile("data.items[2].name"));
+    }
+}
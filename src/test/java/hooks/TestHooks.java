@@ -1,7 +1,17 @@
 package hooks;
 
+import framework.core.CircuitBreaker;
+import framework.core.ConnectionPoolManager;
+import framework.core.JsonSchemaCache;
+import framework.core.RateLimiter;
+import framework.core.RetryPolicy;
 import framework.core.TestContext;
+import framework.performance.LatencyMetrics;
+import framework.reporting.AttachmentStore;
 import framework.reporting.ExtentReportManager;
+import framework.reporting.ReportEventStream;
+import framework.utils.EndpointRegistry;
+import framework.utils.JsonPathCache;
 import framework.utils.LogManager;
 import io.cucumber.java.After;
 import io.cucumber.java.AfterAll;
@@ -12,6 +22,8 @@ import io.restassured.response.Response;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.File;
+
 /**
  * Cucumber hooks for test setup and teardown operations
  */
@@ -22,19 +34,22 @@ public class TestHooks {
     public static void beforeAllTests() {
         logger.info("========== Test Suite Starting ==========");
         ExtentReportManager.initializeReports();
+        JsonSchemaCache.preload();
+        EndpointRegistry.preload();
         LogManager.logTestStart("Test Suite");
     }
 
     @Before
     public void beforeScenario(Scenario scenario) {
         String scenarioName = scenario.getName();
-        String threadId = Thread.currentThread().getName();
+        String threadId = LogManager.currentThreadId();
         
         LogManager.setTestContext(scenarioName, threadId);
         LogManager.logScenarioStart(scenarioName);
         
         TestContext.clear();
         TestContext.setScenarioName(scenarioName);
+        LatencyMetrics.startWindow();
         
         ExtentReportManager.createTest(scenarioName, getScenarioDescription(scenario));
         
@@ -68,6 +83,7 @@ public class TestHooks {
         
         // Cleanup
         TestContext.cleanup();
+        ExtentReportManager.removeTest();
         LogManager.clearContext();
         
         logger.info("Scenario completed: {} with status: {}", scenarioName, status);
@@ -76,6 +92,45 @@ public class TestHooks {
     @AfterAll
     public static void afterAllTests() {
         LogManager.logTestEnd("Test Suite", "COMPLETED");
+        
+        String poolStats = ConnectionPoolManager.getInstance().getPoolStatsSummary();
+        logger.info("HTTP connection pool stats: {}", poolStats);
+        ExtentReportManager.addSystemInfo("HTTP Connection Pool", poolStats);
+
+        String jsonPathStats = JsonPathCache.getStatsSummary();
+        logger.info("JSON path cache stats: {}", jsonPathStats);
+        ExtentReportManager.addSystemInfo("JSON Path Cache", jsonPathStats);
+
+        String schemaStats = JsonSchemaCache.getStatsSummary();
+        logger.info("JSON schema cache stats: {}", schemaStats);
+        ExtentReportManager.addSystemInfo("JSON Schema Cache", schemaStats);
+
+        String rateLimitStats = RateLimiter.getInstance().getStatsSummary();
+        logger.info("Rate limiter stats: {}", rateLimitStats);
+        ExtentReportManager.addSystemInfo("Rate Limiter", rateLimitStats);
+
+        String retryStats = RetryPolicy.getInstance().getStatsSummary();
+        logger.info("Retry stats: {}", retryStats);
+        ExtentReportManager.addSystemInfo("Retries", retryStats);
+
+        CircuitBreaker.getAllStatsSummaries().forEach((baseUrl, stats) -> {
+            logger.info("Circuit breaker stats for {}: {}", baseUrl, stats);
+            ExtentReportManager.addSystemInfo("Circuit Breaker " + baseUrl, stats);
+        });
+
+        String attachmentStats = AttachmentStore.getStatsSummary();
+        logger.info("Report attachment stats: {}", attachmentStats);
+        ExtentReportManager.addSystemInfo("Report Attachments", attachmentStats);
+
+        LatencyMetrics.getAllStats().values().forEach(stats -> {
+            ExtentReportManager.addSystemInfo("Latency " + stats.getKey(), stats.toSummary());
+            ReportEventStream.latency(stats.getKey(), stats.getErrorCount(), stats.getHistogram());
+        });
+        long timeouts = LatencyMetrics.getTotalStats().getTimeoutCount();
+        logger.info("API timeouts: {}", timeouts);
+        ExtentReportManager.addSystemInfo("API Timeouts", String.valueOf(timeouts));
+        LatencyMetrics.dump(new File("target/metrics/latency.hlog"));
+        
         ExtentReportManager.flushReports();
         logger.info("========== Test Suite Completed ==========");
     }
@@ -159,7 +214,7 @@ public class TestHooks {
      */
     private String formatContextInfo() {
         StringBuilder info = new StringBuilder();
-        info.append("Thread: ").append(Thread.currentThread().getName()).append("\n");
+        info.append("Thread: ").append(LogManager.currentThreadId()).append("\n");
         info.append("Scenario: ").append(TestContext.getScenarioName()).append("\n");
         
         String userId = TestContext.getUserId();
@@ -0,0 +1,99 @@
+package runners;
+
+import framework.utils.VirtualThreadSupport;
+import io.cucumber.testng.CucumberOptions;
+import io.cucumber.testng.PickleWrapper;
+import io.cucumber.testng.TestNGCucumberRunner;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.SkipException;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Virtual Thread Test Runner for Cucumber tests
+ * Executes each scenario on its own virtual thread, bounded by a concurrency limit
+ * Run with: mvn clean test -P virtual-threads (requires Java 21)
+ */
+@CucumberOptions(
+        features = "src/test/resources/features",
+        glue = {"stepDefinitions", "hooks"},
+        tags = "@smoke or @regression",
+        plugin = {
+                "pretty",
+                "html:target/cucumber-reports/virtual-cucumber-html-report.html",
+                "json:target/cucumber-json-reports/virtual-cucumber.json",
+                "junit:target/cucumber-xml-reports/virtual-cucumber.xml",
+                "timeline:target/cucumber-reports/virtual-timeline",
+                "usage:target/cucumber-reports/virtual-usage.json"
+        },
+        monochrome = true,
+        publish = false
+)
+public class VirtualThreadTestRunner {
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadTestRunner.class);
+    private static final String MAX_CONCURRENCY_PROPERTY = "virtual.threads.max.concurrency";
+    private static final int DEFAULT_MAX_CONCURRENCY = 200;
+
+    private TestNGCucumberRunner testNGCucumberRunner;
+
+    @BeforeClass(alwaysRun = true)
+    public void setUpClass() {
+        testNGCucumberRunner = new TestNGCucumberRunner(this.getClass());
+    }
+
+    @Test(groups = "cucumber", description = "Runs Cucumber scenarios on virtual threads")
+    public void runScenarios() throws InterruptedException {
+        int maxConcurrency = Integer.getInteger(MAX_CONCURRENCY_PROPERTY, DEFAULT_MAX_CONCURRENCY);
+        Semaphore permits = new Semaphore(maxConcurrency);
+        Queue<String> failures = new ConcurrentLinkedQueue<>();
+        AtomicInteger skipped = new AtomicInteger();
+        Object[][] scenarios = testNGCucumberRunner.provideScenarios();
+
+        logger.info("Running {} scenarios on virtual threads (virtual threads available: {}, max concurrency: {})",
+                scenarios.length, VirtualThreadSupport.isAvailable(), maxConcurrency);
+
+        ExecutorService executor = VirtualThreadSupport.newThreadPerTaskExecutor("scenario");
+        try {
+            for (Object[] scenario : scenarios) {
+                PickleWrapper pickleWrapper = (PickleWrapper) scenario[0];
+                permits.acquire();
+                executor.submit(() -> {
+                    try {
+                        testNGCucumberRunner.runScenario(pickleWrapper.getPickle());
+                    } catch (SkipException e) {
+                        skipped.incrementAndGet();
+                    } catch (Throwable t) {
+                        failures.add(pickleWrapper.getPickle().getName() + ": " + t.getMessage());
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+        }
+
+        logger.info("Virtual thread run finished - total: {}, failed: {}, skipped: {}",
+                scenarios.length, failures.size(), skipped.get());
+        if (!failures.isEmpty()) {
+            throw new AssertionError(failures.size() + " scenario(s) failed:\n" + String.join("\n", failures));
+        }
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void tearDownClass() {
+        if (testNGCucumberRunner != null) {
+            testNGCucumberRunner.finish();
+        }
+    }
+}
@@ -1,16 +1,25 @@
 package stepDefinitions;
 
 import framework.core.ApiClient;
+import framework.core.RequestBuilder;
 import framework.core.TestContext;
+import framework.performance.ConstantArrivalRateExecutor;
+import framework.performance.LatencyMetrics;
+import framework.performance.LoadProfile;
+import framework.performance.LoadTestEngine;
+import framework.performance.LoadTestResult;
+import framework.performance.MetricsValidator;
 import framework.utils.DataProvider;
 import framework.utils.LogManager;
 import io.cucumber.java.en.Given;
 import io.cucumber.java.en.Then;
 import io.cucumber.java.en.When;
+import io.restassured.http.Method;
 import io.restassured.response.Response;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -183,8 +192,7 @@ public class CommonStepDefinitions {
     public void theResponseShouldContain(String expectedContent) {
         LogManager.logTestStep("Validating response contains: " + expectedContent);
         
-        Response response = TestContext.getResponse();
-        String responseBody = response.getBody().asString();
+        String responseBody = TestContext.getResponseBodyAsString();
         
         assertThat(responseBody)
                 .as("Response should contain expected content")
@@ -197,8 +205,7 @@ public class CommonStepDefinitions {
     public void theResponseShouldContainAnAppropriateErrorMessage() {
         LogManager.logTestStep("Validating error message in response");
         
-        Response response = TestContext.getResponse();
-        String responseBody = response.getBody().asString();
+        String responseBody = TestContext.getResponseBodyAsString();
         
         // Check for common error message fields
         boolean hasErrorMessage = responseBody.contains("error") ||
@@ -217,8 +224,7 @@ public class CommonStepDefinitions {
     public void theResponseShouldContainAnAuthenticationError() {
         LogManager.logTestStep("Validating authentication error in response");
         
-        Response response = TestContext.getResponse();
-        String responseBody = response.getBody().asString().toLowerCase();
+        String responseBody = TestContext.getResponseBodyAsString().toLowerCase();
         
         boolean hasAuthError = responseBody.contains("unauthorized") ||
                              responseBody.contains("authentication") ||
@@ -236,8 +242,7 @@ public class CommonStepDefinitions {
     public void theResponseShouldContainAPermissionsError() {
         LogManager.logTestStep("Validating permissions error in response");
         
-        Response response = TestContext.getResponse();
-        String responseBody = response.getBody().asString().toLowerCase();
+        String responseBody = TestContext.getResponseBodyAsString().toLowerCase();
         
         boolean hasPermissionError = responseBody.contains("forbidden") ||
                                    responseBody.contains("permission") ||
@@ -265,6 +270,100 @@ public class CommonStepDefinitions {
         logger.info("Wait completed: {} seconds", seconds);
     }
 
+    @When("I run a load test sending {word} requests to the {string} endpoint")
+    public void iRunALoadTestSendingRequestsToTheEndpoint(String method, String endpointName) {
+        runLoadTest(method, endpointName, LoadProfile.fromConfig());
+    }
+
+    @When("I run a load test sending {word} requests to the {string} endpoint for {int} seconds")
+    public void iRunALoadTestSendingRequestsToTheEndpointForSeconds(String method, String endpointName, int seconds) {
+        runLoadTest(method, endpointName, LoadProfile.fromConfig().withDuration(Duration.ofSeconds(seconds)));
+    }
+
+    @When("I send {word} requests to the {string} endpoint at {double} requests per second for {int} seconds")
+    public void iSendRequestsAtAConstantRate(String method, String endpointName, double rate, int seconds) {
+        LogManager.logTestStep("Running constant arrival rate test: " + method + " " + endpointName
+                + " at " + rate + " req/s for " + seconds + "s");
+
+        RequestBuilder template = new RequestBuilder(apiClient).endpoint(DataProvider.getEndpoint(endpointName));
+        LoadTestResult result = ConstantArrivalRateExecutor.fromConfig()
+                .withRate(rate, Duration.ofSeconds(seconds))
+                .run(method + " " + endpointName, template, Method.valueOf(method.toUpperCase()));
+        TestContext.set(TestContext.LOAD_TEST_RESULT_KEY, result);
+
+        logger.info("Constant arrival rate test completed: {}", result.toSummary());
+    }
+
+    @Given("the recorded latency metrics are reset")
+    public void theRecordedLatencyMetricsAreReset() {
+        // Only this scenario's window starts over; other scenarios keep recording into theirs
+        LogManager.logTestStep("Starting a new latency window for this scenario");
+        LatencyMetrics.startWindow();
+    }
+
+    @Then("the p{double} latency of {word} {string} requests should be below {int} ms")
+    public void thePercentileLatencyOfRequestsShouldBeBelow(double percentile, String method, String endpointName,
+                                                            int maxTimeMs) {
+        LogManager.logTestStep("Validating p" + percentile + " latency of " + method + " " + endpointName
+                + " is below " + maxTimeMs + "ms");
+        endpointMetrics(method, endpointName).percentileBelow(percentile, maxTimeMs);
+    }
+
+    @Then("the throughput of {word} {string} requests should be at least {double} requests per second")
+    public void theThroughputOfRequestsShouldBeAtLeast(String method, String endpointName, double minRate) {
+        LogManager.logTestStep("Validating throughput of " + method + " " + endpointName + " is at least "
+                + minRate + " req/s");
+        endpointMetrics(method, endpointName).throughputAtLeast(minRate);
+    }
+
+    @Then("the error rate of {word} {string} requests should be below {double}%")
+    public void theErrorRateOfRequestsShouldBeBelow(String method, String endpointName, double maxPercent) {
+        LogManager.logTestStep("Validating error rate of " + method + " " + endpointName + " is below "
+                + maxPercent + "%");
+        endpointMetrics(method, endpointName).errorRateBelow(maxPercent);
+    }
+
+    @Then("the load test p{double} latency should be below {int} ms")
+    public void theLoadTestPercentileLatencyShouldBeBelow(double percentile, int maxTimeMs) {
+        LogManager.logTestStep("Validating load test p" + percentile + " latency is below " + maxTimeMs + "ms");
+        loadTestMetrics().percentileBelow(percentile, maxTimeMs);
+    }
+
+    @Then("the load test throughput should be at least {double} requests per second")
+    public void theLoadTestThroughputShouldBeAtLeast(double minRate) {
+        LogManager.logTestStep("Validating load test throughput is at least " + minRate + " req/s");
+        loadTestMetrics().throughputAtLeast(minRate);
+    }
+
+    @Then("the load test error rate should be below {double}%")
+    public void theLoadTestErrorRateShouldBeBelow(double maxPercent) {
+        LogManager.logTestStep("Validating load test error rate is below " + maxPercent + "%");
+        loadTestMetrics().errorRateBelow(maxPercent);
+    }
+
+    private MetricsValidator endpointMetrics(String method, String endpointName) {
+        return MetricsValidator.forScenario(method, DataProvider.getEndpoint(endpointName));
+    }
+
+    private MetricsValidator loadTestMetrics() {
+        LoadTestResult result = TestContext.get(TestContext.LOAD_TEST_RESULT_KEY);
+        assertThat(result)
+                .as("A load test should have been run in this scenario")
+                .isNotNull();
+        return MetricsValidator.forLoadTest(result);
+    }
+
+    private void runLoadTest(String method, String endpointName, LoadProfile profile) {
+        LogManager.logTestStep("Running load test: " + method + " " + endpointName + " (" + profile + ")");
+
+        RequestBuilder template = new RequestBuilder(apiClient).endpoint(DataProvider.getEndpoint(endpointName));
+        LoadTestResult result = new LoadTestEngine(profile)
+                .run(method + " " + endpointName, template, Method.valueOf(method.toUpperCase()));
+        TestContext.set(TestContext.LOAD_TEST_RESULT_KEY, result);
+
+        logger.info("Load test completed: {}", result.toSummary());
+    }
+
     @Then("the response should be valid JSON")
     public void theResponseShouldBeValidJson() {
         LogManager.logTestStep("Validating response is valid JSON");
@@ -301,7 +400,7 @@ public class CommonStepDefinitions {
         LogManager.logTestStep("Validating response is not empty");
         
         Response response = TestContext.getResponse();
-        String responseBody = response.getBody().asString();
+        String responseBody = TestContext.getResponseBodyAsString();
         
         assertThat(responseBody)
                 .as("Response body should not be empty")